@@ -0,0 +1,65 @@
+package com.blog.application.common.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-256-bits-long";
+    private static final long ACCESS_TOKEN_VALIDITY_MS = 3_600_000L;
+    private static final long REFRESH_TOKEN_VALIDITY_MS = 1_209_600_000L;
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = new JwtTokenProvider(SECRET, ACCESS_TOKEN_VALIDITY_MS, REFRESH_TOKEN_VALIDITY_MS,
+                10_000, new SimpleMeterRegistry());
+        uncachedProvider = new JwtTokenProvider(SECRET, ACCESS_TOKEN_VALIDITY_MS, REFRESH_TOKEN_VALIDITY_MS,
+                0, new SimpleMeterRegistry());
+        token = cachedProvider.generateAccessToken("bench@example.com");
+    }
+
+    /**
+     * 기존 필터 경로: validateToken + getEmailFromToken (토큰을 두 번 파싱/서명 검증)
+     */
+    @Benchmark
+    public String validateThenGetEmail() {
+        if (!uncachedProvider.validateToken(token)) {
+            return null;
+        }
+        return uncachedProvider.getEmailFromToken(token);
+    }
+
+    /**
+     * 한 번만 파싱 (캐시 없음)
+     */
+    @Benchmark
+    public String parseOnce() {
+        return uncachedProvider.parseVerifiedClaims(token).map(claims -> claims.getSubject()).orElse(null);
+    }
+
+    /**
+     * 한 번만 파싱 + 검증된 클레임 캐시 (같은 토큰이 반복되는 일반적인 요청 흐름)
+     */
+    @Benchmark
+    public String parseOnceCached() {
+        return cachedProvider.parseVerifiedClaims(token).map(claims -> claims.getSubject()).orElse(null);
+    }
+}
+
+//필터가 요청마다 토큰을 검증하는 비용을 비교하는 JMH 벤치마크
+//두 번 파싱, 한 번 파싱, 한 번 파싱 + 클레임 캐시의 요청당 평균 시간을 측정한다
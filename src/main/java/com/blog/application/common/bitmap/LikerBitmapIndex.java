@@ -0,0 +1,215 @@
+package com.blog.application.common.bitmap;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글별 좋아요 사용자 집합을 압축 비트맵(Roaring)으로 보관하는 메모리 색인
+ *
+ * 게시글 → 좋아요한 사용자 비트맵과 사용자 → 좋아요한 게시글 비트맵을 함께 두어
+ * 좋아요 여부/개수는 게시글 쪽, 두 사용자가 함께 좋아요한 게시글은 사용자 쪽 비트맵의 AND로 구한다.
+ * 존재하는 게시글 id도 비트맵으로 두어 없는 게시글과 좋아요 0개인 게시글을 구분한다.
+ * RoaringBitmap은 스레드 안전하지 않으므로 읽기/쓰기 락으로 감싼다 (조회는 서로 막지 않는다).
+ * id는 int 범위여야 한다.
+ */
+public class LikerBitmapIndex {
+
+    // HashMap 항목 + Integer 키 + RoaringBitmap 객체 헤더의 대략적인 크기
+    private static final long MAP_ENTRY_OVERHEAD_BYTES = 96;
+
+    private final RoaringBitmap articles = new RoaringBitmap();
+    private final Map<Integer, RoaringBitmap> likersByArticle = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> likesByUser = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long likeTotal;
+
+    public void addArticle(long articleId) {
+        int article = Math.toIntExact(articleId);
+        lock.writeLock().lock();
+        try {
+            articles.add(article);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글과 그 게시글의 좋아요를 모두 제거
+     */
+    public void removeArticle(long articleId) {
+        int article = Math.toIntExact(articleId);
+        lock.writeLock().lock();
+        try {
+            articles.remove(article);
+            RoaringBitmap likers = likersByArticle.remove(article);
+            if (likers == null) {
+                return;
+            }
+            likeTotal -= likers.getLongCardinality();
+            IntIterator users = likers.getIntIterator();
+            while (users.hasNext()) {
+                removeFrom(likesByUser, users.next(), article);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자와 그 사용자의 좋아요를 모두 제거
+     */
+    public void removeUser(long userId) {
+        int user = Math.toIntExact(userId);
+        lock.writeLock().lock();
+        try {
+            RoaringBitmap liked = likesByUser.remove(user);
+            if (liked == null) {
+                return;
+            }
+            likeTotal -= liked.getLongCardinality();
+            IntIterator articleIds = liked.getIntIterator();
+            while (articleIds.hasNext()) {
+                removeFrom(likersByArticle, articleIds.next(), user);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void like(long articleId, long userId) {
+        int article = Math.toIntExact(articleId);
+        int user = Math.toIntExact(userId);
+        lock.writeLock().lock();
+        try {
+            if (likersByArticle.computeIfAbsent(article, k -> new RoaringBitmap()).checkedAdd(user)) {
+                likesByUser.computeIfAbsent(user, k -> new RoaringBitmap()).add(article);
+                likeTotal++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void unlike(long articleId, long userId) {
+        int article = Math.toIntExact(articleId);
+        int user = Math.toIntExact(userId);
+        lock.writeLock().lock();
+        try {
+            if (removeFrom(likersByArticle, article, user)) {
+                removeFrom(likesByUser, user, article);
+                likeTotal--;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean hasArticle(long articleId) {
+        lock.readLock().lock();
+        try {
+            return isIntId(articleId) && articles.contains((int) articleId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isLiked(long articleId, long userId) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap likers = isIntId(articleId) ? likersByArticle.get((int) articleId) : null;
+            return likers != null && isIntId(userId) && likers.contains((int) userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 두 사용자가 모두 좋아요한 게시글 id (최신 게시글 = 큰 id부터 최대 limit개)
+     */
+    public List<Long> likedByBoth(long userId, long otherUserId, int limit) {
+        RoaringBitmap common;
+        lock.readLock().lock();
+        try {
+            RoaringBitmap liked = isIntId(userId) ? likesByUser.get((int) userId) : null;
+            RoaringBitmap otherLiked = isIntId(otherUserId) ? likesByUser.get((int) otherUserId) : null;
+            if (liked == null || otherLiked == null) {
+                return List.of();
+            }
+            // and는 새 비트맵을 만들므로 락 밖에서 순회해도 안전하다
+            common = RoaringBitmap.and(liked, otherLiked);
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Long> articleIds = new ArrayList<>(Math.min(limit, common.getCardinality()));
+        IntIterator iterator = common.getReverseIntIterator();
+        while (iterator.hasNext() && articleIds.size() < limit) {
+            articleIds.add((long) iterator.next());
+        }
+        return articleIds;
+    }
+
+    /**
+     * 색인 전체를 run 컨테이너로 다시 압축 (대량 적재 직후 호출)
+     */
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            articles.runOptimize();
+            likersByArticle.values().forEach(RoaringBitmap::runOptimize);
+            likesByUser.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long likeTotal() {
+        lock.readLock().lock();
+        try {
+            return likeTotal;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 비트맵이 차지하는 대략적인 메모리 크기 (바이트, 맵 항목 오버헤드 포함)
+     */
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = articles.getLongSizeInBytes();
+            for (RoaringBitmap likers : likersByArticle.values()) {
+                bytes += likers.getLongSizeInBytes() + MAP_ENTRY_OVERHEAD_BYTES;
+            }
+            for (RoaringBitmap liked : likesByUser.values()) {
+                bytes += liked.getLongSizeInBytes() + MAP_ENTRY_OVERHEAD_BYTES;
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 조회 시 int 범위를 벗어난 id는 색인에 없는 것으로 본다
+    private static boolean isIntId(long id) {
+        return id >= Integer.MIN_VALUE && id <= Integer.MAX_VALUE;
+    }
+
+    private static boolean removeFrom(Map<Integer, RoaringBitmap> bitmaps, int key, int value) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap == null || !bitmap.checkedRemove(value)) {
+            return false;
+        }
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(key);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,87 @@
+package com.blog.application.common.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 증가분을 모아 두었다가 한 번에 꺼내 가는(drain) 카운터
+ *
+ * 키마다 LongAdder를 두어 같은 키에 대한 동시 증가도 셀 단위로 분산되며 락이 없다.
+ * drain은 sumThenReset(셀 단위 getAndSet)으로 값을 꺼내므로 동시에 더해진 값이 유실되거나 두 번 세어지지 않는다.
+ * 한동안 증가가 없던 키는 drain 시 맵에서 제거하고, 제거 직후 옛 LongAdder에 더해진 값은 증가한 쪽에서 새 LongAdder로 옮긴다.
+ */
+public class DeltaCounter {
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void add(Long key, long delta) {
+        LongAdder adder = counters.computeIfAbsent(key, k -> new LongAdder());
+        adder.add(delta);
+        if (counters.get(key) != adder) {
+            // drain 중에 제거된 LongAdder에 더했다면 남은 값을 현재 LongAdder로 옮긴다
+            long orphaned = adder.sumThenReset();
+            if (orphaned != 0) {
+                counters.computeIfAbsent(key, k -> new LongAdder()).add(orphaned);
+            }
+        }
+    }
+
+    public void increment(Long key) {
+        add(key, 1);
+    }
+
+    /**
+     * 아직 꺼내 가지 않은 증가분
+     */
+    public long pending(Long key) {
+        LongAdder adder = counters.get(key);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 전체 키의 아직 꺼내 가지 않은 증가분 합계
+     */
+    public long totalPending() {
+        long total = 0;
+        for (LongAdder adder : counters.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    /**
+     * 모인 증가분을 꺼내고 0으로 되돌린다 (증가분이 0인 키는 결과에서 빠지고 맵에서도 제거된다)
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            LongAdder adder = entry.getValue();
+            long delta = adder.sumThenReset();
+            if (delta == 0 && counters.remove(entry.getKey(), adder)) {
+                // 제거 직전에 더해진 값은 여기서 함께 꺼낸다
+                delta = adder.sumThenReset();
+            }
+            if (delta != 0) {
+                drained.put(entry.getKey(), delta);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 반영에 실패한 증가분을 되돌려 놓는다 (다음 drain 때 다시 꺼내진다)
+     */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    public void remove(Long key) {
+        counters.remove(key);
+    }
+
+    public int size() {
+        return counters.size();
+    }
+}
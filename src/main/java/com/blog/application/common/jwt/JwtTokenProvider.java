@@ -1,27 +1,58 @@
 package com.blog.application.common.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
-    
+
+    private static final String CLAIMS_CACHE_NAME = "jwt.claims";
+
     private final SecretKey secretKey;
     private final long accessTokenValidityMs;
     private final long refreshTokenValidityMs;
-    
+    // 파서는 불변이고 스레드 안전하므로 한 번만 만들어 재사용한다
+    private final JwtParser parser;
+    // 검증을 통과한 토큰의 클레임 캐시 (키: 토큰의 SHA-256, 토큰의 exp 시각에 만료), 크기 0이면 null
+    private final Cache<String, Claims> verifiedClaims;
+
     public JwtTokenProvider(@Value("${jwt.secret}") String secret,
                            @Value("${jwt.access-token-validity-ms}") long accessTokenValidityMs,
-                           @Value("${jwt.refresh-token-validity-ms}") long refreshTokenValidityMs) {
+                           @Value("${jwt.refresh-token-validity-ms}") long refreshTokenValidityMs,
+                           @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheMaxSize,
+                           MeterRegistry meterRegistry) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenValidityMs = accessTokenValidityMs;
         this.refreshTokenValidityMs = refreshTokenValidityMs;
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        if (claimsCacheMaxSize > 0) {
+            this.verifiedClaims = Caffeine.newBuilder()
+                    .maximumSize(claimsCacheMaxSize)
+                    .expireAfter(new ClaimsExpiry())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, CLAIMS_CACHE_NAME);
+        } else {
+            this.verifiedClaims = null;
+        }
     }
     
     /**
@@ -53,15 +84,39 @@ public class JwtTokenProvider {
                 .compact();
     }
     
+    /**
+     * 토큰을 한 번만 파싱해 서명과 만료를 검증하고 클레임을 반환 (유효하지 않으면 empty)
+     * 같은 토큰이 다시 오면 서명 검증 없이 캐시된 클레임을 돌려준다
+     */
+    public Optional<Claims> parseVerifiedClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        if (verifiedClaims == null) {
+            return parseOrEmpty(token);
+        }
+
+        String key = digest(token);
+        Claims cached = verifiedClaims.getIfPresent(key);
+        if (cached != null) {
+            // 캐시 만료는 exp 기준이지만 만료 처리 시점이 늦을 수 있으므로 한 번 더 확인
+            if (!timeUntilExpiry(cached).isZero()) {
+                return Optional.of(cached);
+            }
+            verifiedClaims.invalidate(key);
+            return Optional.empty();
+        }
+
+        Optional<Claims> claims = parseOrEmpty(token);
+        claims.ifPresent(value -> verifiedClaims.put(key, value));
+        return claims;
+    }
+
     /**
      * 토큰에서 이메일 추출
      */
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parser.parseSignedClaims(token).getPayload();
         
         return claims.getSubject();
     }
@@ -91,10 +146,7 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (ExpiredJwtException e) {
             return false;
@@ -138,4 +190,53 @@ public class JwtTokenProvider {
     public long getAccessTokenValidityMs() {
         return accessTokenValidityMs;
     }
-}
\ No newline at end of file
+
+    private Optional<Claims> parseOrEmpty(String token) {
+        try {
+            return Optional.of(parser.parseSignedClaims(token).getPayload());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    // exp까지 남은 시간 (exp가 없으면 캐시하지 않도록 0)
+    private static Duration timeUntilExpiry(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return Duration.ZERO;
+        }
+        long remainingMs = expiration.getTime() - System.currentTimeMillis();
+        return remainingMs > 0 ? Duration.ofMillis(remainingMs) : Duration.ZERO;
+    }
+
+    // 항목마다 토큰의 exp 시각에 만료 (읽기/갱신으로 연장하지 않음)
+    private static final class ClaimsExpiry implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            return timeUntilExpiry(claims).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    // 토큰 원문 대신 SHA-256 다이제스트를 키로 써서 캐시에 토큰이 남지 않게 한다
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
+
+//JWT 생성과 검증을 담당한다
+//파서는 한 번만 만들어 재사용하고, 검증된 클레임은 토큰 다이제스트 기준으로 exp까지 캐시한다
@@ -0,0 +1,132 @@
+package com.blog.application.common.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 시간에 따라 감쇠하는 점수의 상위 K 랭킹 (메모리, 크기 제한)
+ *
+ * 이벤트 시각 t의 가중치 w를 w * 2^((t - epoch) / halfLife)로 키워서 더해 두면,
+ * 조회 시각의 감쇠 점수는 저장 점수 / 2^((now - epoch) / halfLife)가 되고 모든 항목이 같은 비율로 줄어들기 때문에
+ * 저장된 점수의 순서가 곧 감쇠 점수의 순서가 된다. 따라서 조회 때 다시 계산하거나 정렬할 필요 없이 O(K)로 읽는다.
+ * 지수가 너무 커지면 epoch를 현재 시각으로 옮기고 모든 점수를 같은 비율로 나눈다(rebase).
+ *
+ * 최대 capacity개 항목만 보관하며, 가득 찬 상태에서 새 항목이 들어오면 가장 낮은 항목보다 점수가 높을 때만 교체한다.
+ */
+public class DecayingTopK {
+
+    // 저장 점수가 2^REBASE_EXPONENT배를 넘기 전에 rebase (double 정밀도 여유 확보)
+    private static final double REBASE_EXPONENT = 32;
+    // 이 값 이하로 떨어진 항목(좋아요 취소 등)은 랭킹에서 제거
+    private static final double MIN_SCORE = 1e-9;
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble(Entry::score)
+            .thenComparing(Entry::id);
+
+    private final int capacity;
+    private final double halfLifeMillis;
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final TreeSet<Entry> ordered = new TreeSet<>(ORDER);
+    private long epochMillis;
+
+    public DecayingTopK(int capacity, long halfLifeMillis, long epochMillis) {
+        if (capacity <= 0 || halfLifeMillis <= 0) {
+            throw new IllegalArgumentException("capacity와 halfLife는 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.halfLifeMillis = halfLifeMillis;
+        this.epochMillis = epochMillis;
+    }
+
+    /**
+     * 항목에 가중치를 더한다 (음수면 감소, 추적하지 않는 항목의 감소는 무시)
+     */
+    public synchronized void add(Long id, double weight, long nowMillis) {
+        if (exponent(nowMillis) > REBASE_EXPONENT) {
+            rebase(nowMillis);
+        }
+        double delta = weight * Math.pow(2, exponent(nowMillis));
+        Double current = scores.get(id);
+        if (current == null) {
+            if (delta <= MIN_SCORE) {
+                return;
+            }
+            if (scores.size() >= capacity) {
+                Entry lowest = ordered.first();
+                if (lowest.score() >= delta) {
+                    return;
+                }
+                ordered.remove(lowest);
+                scores.remove(lowest.id());
+            }
+            put(id, delta);
+            return;
+        }
+
+        ordered.remove(new Entry(id, current));
+        double updated = current + delta;
+        if (updated <= MIN_SCORE) {
+            scores.remove(id);
+        } else {
+            put(id, updated);
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        Double current = scores.remove(id);
+        if (current != null) {
+            ordered.remove(new Entry(id, current));
+        }
+    }
+
+    /**
+     * 감쇠 점수 상위 limit개 (높은 순)
+     */
+    public synchronized List<Entry> top(int limit, long nowMillis) {
+        double decay = Math.pow(2, exponent(nowMillis));
+        List<Entry> result = new ArrayList<>(Math.min(limit, ordered.size()));
+        for (Entry entry : ordered.descendingSet()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(new Entry(entry.id(), entry.score() / decay));
+        }
+        return result;
+    }
+
+    public synchronized int size() {
+        return scores.size();
+    }
+
+    private void put(Long id, double score) {
+        scores.put(id, score);
+        ordered.add(new Entry(id, score));
+    }
+
+    private double exponent(long nowMillis) {
+        return (nowMillis - epochMillis) / halfLifeMillis;
+    }
+
+    // 모든 점수를 같은 비율로 나누므로 순서는 그대로 유지된다
+    private void rebase(long nowMillis) {
+        double factor = Math.pow(2, exponent(nowMillis));
+        List<Entry> entries = new ArrayList<>(ordered);
+        scores.clear();
+        ordered.clear();
+        for (Entry entry : entries) {
+            double rebased = entry.score() / factor;
+            if (rebased > MIN_SCORE) {
+                put(entry.id(), rebased);
+            }
+        }
+        epochMillis = nowMillis;
+    }
+
+    public record Entry(Long id, double score) {
+    }
+}
@@ -0,0 +1,504 @@
+package com.blog.application.common.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 제목/본문용 메모리 역색인 (BM25 랭킹)
+ * 문서 단위로 증분 추가/삭제가 가능하고, 스냅샷으로 디스크에 저장/복원할 수 있다
+ *
+ * 게시글 id마다 0부터 차례로 슬롯 번호(int)를 붙이고, 단어별 posting은 슬롯 번호(오름차순)와 빈도를
+ * 나란한 int 배열로 저장한다. posting 항목마다 박싱된 Long/Integer와 HashMap 엔트리를 만들지 않으므로
+ * 백만 건 규모에서도 힙 사용량이 posting 수 x 8바이트 수준이고, 검색 시 점수는 슬롯 번호로 인덱싱하는
+ * 재사용하는 double 배열에 누적해 질의마다 맵을 새로 만들지 않는다.
+ * 삭제된 문서의 슬롯은 재사용하지 않고, 빈 슬롯이 살아 있는 문서보다 많아지면 슬롯을 다시 매긴다(compact).
+ */
+public class InvertedIndex {
+
+    // 글자/숫자가 아닌 문자를 기준으로 토큰 분리 (한글 포함)
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    // 제목에 나온 단어는 본문보다 가중치를 높게 준다
+    private static final int TITLE_WEIGHT = 2;
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 스냅샷 포맷 버전 (2: 단어를 writeUTF 대신 길이 + UTF-8 바이트로 기록, 3: 문서마다 게시글 버전 기록)
+    private static final int SNAPSHOT_VERSION = 3;
+    // 버전을 모르는 문서 (재시작 시 DB 버전과 항상 달라 다시 색인된다)
+    private static final long UNKNOWN_VERSION = -1L;
+    // 빈 슬롯이 이 수 이하면 compact 하지 않는다
+    private static final int MIN_COMPACT_SLOTS = 1024;
+    private static final int INITIAL_CAPACITY = 16;
+
+    // 단어 -> posting (슬롯 번호 오름차순 + 빈도)
+    private final Map<String, Posting> postings = new HashMap<>();
+    // 게시글 id -> 슬롯 번호
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    // 슬롯 번호 -> 게시글 id / 게시글 버전 / 문서 길이 / 색인된 단어 목록 (삭제된 슬롯은 문서가 null)
+    private long[] slotIds = new long[INITIAL_CAPACITY];
+    private long[] slotVersions = new long[INITIAL_CAPACITY];
+    private int[] slotLengths = new int[INITIAL_CAPACITY];
+    private Document[] slotDocuments = new Document[INITIAL_CAPACITY];
+    private int slotCount;
+    private long totalLength;
+
+    // 검색마다 점수 배열을 새로 만들지 않도록 재사용한다 (읽기 잠금 아래에서 여러 검색이 동시에 돌므로 동시 검색 수만큼만 생긴다)
+    private final Queue<ScoreBuffer> scoreBuffers = new ConcurrentLinkedQueue<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 문서 색인 (이미 있으면 기존 색인을 지우고 다시 색인)
+     * @param version 색인한 내용의 게시글 버전 (재시작 시 DB와 비교해 바뀐 문서만 다시 색인하는 데 쓴다)
+     */
+    public void index(Long id, Long version, String title, String content) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        for (String token : tokenize(title)) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(content)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        Document document = Document.of(frequencies);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            addInternal(id, version == null ? UNKNOWN_VERSION : version, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 삭제
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의어로 검색해 BM25 점수 순으로 offset부터 limit개를 반환한다
+     * 점수가 같으면 최신(큰 id) 문서가 먼저 온다
+     * offset은 page * size로 커질 수 있어 long으로 받는다 (결과 수를 넘으면 빈 목록)
+     */
+    public SearchResult search(String query, long offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative");
+        }
+        List<String> terms = tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty() || limit <= 0) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = slotById.size();
+            if (documentCount == 0) {
+                return new SearchResult(List.of(), 0);
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            ScoreBuffer buffer = scoreBuffers.poll();
+            if (buffer == null) {
+                buffer = new ScoreBuffer();
+            }
+            buffer.prepare(slotCount);
+            try {
+                for (String term : terms) {
+                    Posting posting = postings.get(term);
+                    if (posting == null) {
+                        continue;
+                    }
+                    double idf = Math.log(1 + (documentCount - posting.size + 0.5) / (posting.size + 0.5));
+                    for (int i = 0; i < posting.size; i++) {
+                        int slot = posting.slots[i];
+                        int frequency = posting.frequencies[i];
+                        double norm = frequency + K1 * (1 - B + B * slotLengths[slot] / averageLength);
+                        buffer.add(slot, idf * frequency * (K1 + 1) / norm);
+                    }
+                }
+                return new SearchResult(topHits(buffer, offset, limit), buffer.touchedCount);
+            } finally {
+                buffer.reset();
+                scoreBuffers.offer(buffer);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<Long> documentIds() {
+        lock.readLock().lock();
+        try {
+            return Set.copyOf(slotById.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 문서별 게시글 버전 (버전을 모르면 -1)
+     */
+    public Map<Long, Long> documentVersions() {
+        lock.readLock().lock();
+        try {
+            Map<Long, Long> versions = new HashMap<>(slotById.size() * 2);
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (slotDocuments[slot] != null) {
+                    versions.put(slotIds[slot], slotVersions[slot]);
+                }
+            }
+            return versions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 전체를 스냅샷으로 기록 (문서별 단어/빈도만 저장하고 posting은 읽을 때 다시 만든다)
+     */
+    public void writeSnapshot(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(slotById.size());
+            for (int slot = 0; slot < slotCount; slot++) {
+                Document document = slotDocuments[slot];
+                if (document == null) {
+                    continue;
+                }
+                out.writeLong(slotIds[slot]);
+                out.writeLong(slotVersions[slot]);
+                out.writeInt(document.terms.length);
+                for (int i = 0; i < document.terms.length; i++) {
+                    writeTerm(out, document.terms[i]);
+                    out.writeInt(document.frequencies[i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷에서 색인을 복원 (기존 내용은 비운다)
+     */
+    public void readSnapshot(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != SNAPSHOT_VERSION) {
+            throw new IOException("지원하지 않는 검색 색인 스냅샷 버전입니다: " + version);
+        }
+        int documentCount = in.readInt();
+
+        lock.writeLock().lock();
+        try {
+            clearInternal();
+            for (int i = 0; i < documentCount; i++) {
+                long id = in.readLong();
+                long articleVersion = in.readLong();
+                int termCount = in.readInt();
+                String[] terms = new String[termCount];
+                int[] frequencies = new int[termCount];
+                for (int j = 0; j < termCount; j++) {
+                    terms[j] = readTerm(in);
+                    frequencies[j] = in.readInt();
+                }
+                addInternal(id, articleVersion, new Document(terms, frequencies));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            clearInternal();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // writeUTF는 65535바이트를 넘는 문자열(본문에 붙은 base64 이미지, 긴 URL 등)을 쓰지 못하므로 길이를 int로 앞에 쓴다
+    private static void writeTerm(DataOutputStream out, String term) throws IOException {
+        byte[] bytes = term.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readTerm(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("검색 색인 스냅샷이 손상되었습니다: 단어 길이 " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private void addInternal(Long id, long version, Document document) {
+        if (slotCount == slotIds.length) {
+            int capacity = slotIds.length * 2;
+            slotIds = Arrays.copyOf(slotIds, capacity);
+            slotVersions = Arrays.copyOf(slotVersions, capacity);
+            slotLengths = Arrays.copyOf(slotLengths, capacity);
+            slotDocuments = Arrays.copyOf(slotDocuments, capacity);
+        }
+        // 새 슬롯은 항상 가장 큰 번호라 posting 끝에 붙이면 오름차순이 유지된다
+        int slot = slotCount++;
+        for (int i = 0; i < document.terms.length; i++) {
+            Posting posting = postings.computeIfAbsent(document.terms[i], Posting::new);
+            // 같은 단어 문자열을 문서마다 따로 들고 있지 않도록 posting의 문자열을 공유한다
+            document.terms[i] = posting.term;
+            posting.append(slot, document.frequencies[i]);
+        }
+        slotIds[slot] = id;
+        slotVersions[slot] = version;
+        slotLengths[slot] = document.length;
+        slotDocuments[slot] = document;
+        slotById.put(id, slot);
+        totalLength += document.length;
+    }
+
+    private void removeInternal(Long id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        Document document = slotDocuments[slot];
+        for (String term : document.terms) {
+            Posting posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(slot);
+                if (posting.size == 0) {
+                    postings.remove(term);
+                }
+            }
+        }
+        slotDocuments[slot] = null;
+        totalLength -= document.length;
+
+        int emptySlots = slotCount - slotById.size();
+        if (emptySlots > MIN_COMPACT_SLOTS && emptySlots > slotById.size()) {
+            compact();
+        }
+    }
+
+    // 살아 있는 문서만 슬롯 0부터 다시 매긴다 (순서를 유지하므로 posting도 오름차순 그대로)
+    private void compact() {
+        int[] newSlots = new int[slotCount];
+        int next = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotDocuments[slot] == null) {
+                newSlots[slot] = -1;
+                continue;
+            }
+            newSlots[slot] = next;
+            slotIds[next] = slotIds[slot];
+            slotVersions[next] = slotVersions[slot];
+            slotLengths[next] = slotLengths[slot];
+            slotDocuments[next] = slotDocuments[slot];
+            slotById.put(slotIds[next], next);
+            next++;
+        }
+        Arrays.fill(slotDocuments, next, slotCount, null);
+        slotCount = next;
+        for (Posting posting : postings.values()) {
+            for (int i = 0; i < posting.size; i++) {
+                posting.slots[i] = newSlots[posting.slots[i]];
+            }
+        }
+    }
+
+    private void clearInternal() {
+        postings.clear();
+        slotById.clear();
+        slotIds = new long[INITIAL_CAPACITY];
+        slotVersions = new long[INITIAL_CAPACITY];
+        slotLengths = new int[INITIAL_CAPACITY];
+        slotDocuments = new Document[INITIAL_CAPACITY];
+        slotCount = 0;
+        totalLength = 0;
+    }
+
+    // 상위 offset + limit개만 최소 힙으로 유지해서 전체 정렬을 피한다
+    // 힙의 최솟값보다 낮은 문서는 Hit 객체를 만들지 않고 건너뛴다
+    private List<Hit> topHits(ScoreBuffer buffer, long offset, int limit) {
+        int hitCount = buffer.touchedCount;
+        if (offset >= hitCount) {
+            return List.of();
+        }
+        // 여기부터 offset < hitCount라 int 범위 안이고, wanted도 결과 수를 넘지 않는다
+        int start = (int) offset;
+        int wanted = (int) Math.min((long) start + limit, hitCount);
+        Comparator<Hit> ranking = Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::id);
+        PriorityQueue<Hit> heap = new PriorityQueue<>(wanted, ranking);
+        for (int i = 0; i < hitCount; i++) {
+            int slot = buffer.touched[i];
+            double score = buffer.scores[slot];
+            if (heap.size() < wanted) {
+                heap.add(new Hit(slotIds[slot], score));
+                continue;
+            }
+            Hit lowest = heap.peek();
+            if (score > lowest.score() || (score == lowest.score() && slotIds[slot] > lowest.id())) {
+                heap.poll();
+                heap.add(new Hit(slotIds[slot], score));
+            }
+        }
+        List<Hit> ranked = new ArrayList<>(heap);
+        ranked.sort(ranking.reversed());
+        return ranked.subList(start, ranked.size());
+    }
+
+    public record Hit(long id, double score) {
+    }
+
+    public record SearchResult(List<Hit> hits, long totalHits) {
+    }
+
+    private static final class Document {
+        private final String[] terms;
+        private final int[] frequencies;
+        private final int length;
+
+        private Document(String[] terms, int[] frequencies) {
+            this.terms = terms;
+            this.frequencies = frequencies;
+            int sum = 0;
+            for (int frequency : frequencies) {
+                sum += frequency;
+            }
+            this.length = sum;
+        }
+
+        private static Document of(Map<String, Integer> frequencies) {
+            String[] terms = new String[frequencies.size()];
+            int[] counts = new int[frequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                terms[i] = entry.getKey();
+                counts[i] = entry.getValue();
+                i++;
+            }
+            return new Document(terms, counts);
+        }
+    }
+
+    /**
+     * 단어 하나의 posting: 슬롯 번호(오름차순)와 빈도를 나란한 배열로 저장
+     */
+    private static final class Posting {
+        private final String term;
+        private int[] slots = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        private Posting(String term) {
+            this.term = term;
+        }
+
+        private void append(int slot, int frequency) {
+            if (size == slots.length) {
+                int capacity = size + (size >> 1) + 1;
+                slots = Arrays.copyOf(slots, capacity);
+                frequencies = Arrays.copyOf(frequencies, capacity);
+            }
+            slots[size] = slot;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        // 오름차순이므로 이진 탐색으로 찾아 뒤쪽을 한 칸 당긴다
+        private void remove(int slot) {
+            int position = Arrays.binarySearch(slots, 0, size, slot);
+            if (position < 0) {
+                return;
+            }
+            int moved = size - position - 1;
+            System.arraycopy(slots, position + 1, slots, position, moved);
+            System.arraycopy(frequencies, position + 1, frequencies, position, moved);
+            size--;
+            // 크게 줄어든 posting은 배열도 줄인다
+            if (slots.length > 16 && size < slots.length / 4) {
+                slots = Arrays.copyOf(slots, slots.length / 2);
+                frequencies = Arrays.copyOf(frequencies, frequencies.length / 2);
+            }
+        }
+    }
+
+    /**
+     * 검색 한 번의 점수 누적용 버퍼 (슬롯 번호로 인덱싱, 점수가 생긴 슬롯만 기록해 두고 검색 후 그 칸만 0으로 되돌린다)
+     */
+    private static final class ScoreBuffer {
+        private double[] scores = new double[0];
+        private int[] touched = new int[0];
+        private int touchedCount;
+
+        private void prepare(int slotCount) {
+            if (scores.length < slotCount) {
+                scores = new double[slotCount];
+                touched = new int[slotCount];
+            }
+        }
+
+        private void add(int slot, double score) {
+            if (scores[slot] == 0) {
+                touched[touchedCount++] = slot;
+            }
+            scores[slot] += score;
+        }
+
+        private void reset() {
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0;
+            }
+            touchedCount = 0;
+        }
+    }
+}
@@ -30,6 +30,7 @@ public enum ErrorStatus {
     ARTICLE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "E301", "게시글에 대한 권한이 없습니다."),
     ARTICLE_TITLE_EMPTY(HttpStatus.BAD_REQUEST, "E302", "게시글 제목이 비어있습니다."),
     ARTICLE_CONTENT_EMPTY(HttpStatus.BAD_REQUEST, "E303", "게시글 내용이 비어있습니다."),
+    ARTICLE_VERSION_CONFLICT(HttpStatus.CONFLICT, "E304", "다른 요청이 먼저 게시글을 수정했습니다. 다시 조회 후 시도해주세요."),
     
     // 댓글 관련 에러
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "E400", "존재하지 않는 댓글입니다."),
@@ -0,0 +1,31 @@
+package com.blog.application.config;
+
+import com.blog.application.service.CommentStreamService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+@Configuration
+@ConditionalOnProperty(name = "article.comments.stream.redis-relay", havingValue = "true")
+public class CommentStreamRedisConfig {
+
+    // 다른 서버에서 작성된 댓글 이벤트를 받아 이 서버의 SSE 구독자에게 전달
+    @Bean
+    public RedisMessageListenerContainer commentStreamListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       CommentStreamService commentStreamService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> commentStreamService.onRelayedMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CommentStreamService.REDIS_CHANNEL));
+        return container;
+    }
+}
+
+//댓글 스트림 Redis 중계 설정
+//article.comments.stream.redis-relay=true일 때만 Redis 채널을 구독한다
@@ -2,11 +2,14 @@ package com.blog.application.config;
 
 import com.blog.application.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -16,6 +19,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.Set;
 
 @Configuration
 @EnableWebSecurity
@@ -25,7 +29,8 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   @Value("${admin.emails:}") Set<String> adminEmails) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -37,10 +42,14 @@ public class SecurityConfig {
                         .requestMatchers("/actuator/health", "/actuator/info").permitAll()
                         .requestMatchers("/actuator/**").authenticated()
                         // 게시글 조회는 public, 나머지는 인증 필요
-                        .requestMatchers("GET", "/articles", "/articles/*").permitAll()
-                        .requestMatchers("GET", "/articles/*/comments", "/articles/*/comments/").permitAll()
+                        .requestMatchers("GET", "/articles", "/articles/*", "/articles/*/views", "/articles/*/detail").permitAll()
+                        .requestMatchers("GET", "/articles/*/comments", "/articles/*/comments/", "/articles/*/comments/*/thread",
+                                "/articles/*/comments/stream").permitAll()
                         .requestMatchers("GET", "/articles/*/like/status", "/articles/*/bookmark/status").permitAll()
                         .requestMatchers("/articles/**").authenticated()
+                        // 운영 API는 admin.emails에 등록된 사용자만 (역할이 없으므로 이메일 허용 목록으로 제한, 비어 있으면 아무도 못 씀)
+                        .requestMatchers("/admin/**").access((authentication, context) ->
+                                new AuthorizationDecision(isAdmin(authentication.get(), adminEmails)))
                         .anyRequest().authenticated()
                 )
                 .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.disable())) // H2 Console용
@@ -49,6 +58,12 @@ public class SecurityConfig {
         return http.build();
     }
     
+    private static boolean isAdmin(Authentication authentication, Set<String> adminEmails) {
+        return authentication != null
+                && authentication.isAuthenticated()
+                && adminEmails.contains(authentication.getName());
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -0,0 +1,36 @@
+package com.blog.application.controller;
+
+import com.blog.application.service.LikeCountReconciler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin")
+@Tag(name = "Admin", description = "운영 관리 API (admin.emails에 등록된 사용자만 호출 가능)")
+public class AdminController {
+
+    private final LikeCountReconciler likeCountReconciler;
+
+    public AdminController(LikeCountReconciler likeCountReconciler) {
+        this.likeCountReconciler = likeCountReconciler;
+    }
+
+    @PostMapping("/articles/{id}/like-count/reconcile")
+    @Operation(summary = "좋아요 수 즉시 보정",
+            description = "게시글의 like_count를 실제 좋아요 수와 비교해 다르면 바로 보정합니다. 버퍼에 반영 대기 중인 증감분이 있으면 보정하지 않습니다.")
+    @ApiResponse(responseCode = "200", description = "비교/보정 완료")
+    @ApiResponse(responseCode = "401", description = "인증 필요")
+    @ApiResponse(responseCode = "403", description = "admin.emails에 등록된 사용자가 아닙니다.")
+    @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없습니다.")
+    public ResponseEntity<LikeCountReconciler.Result> reconcileLikeCount(
+            @Parameter(description = "게시글 ID") @PathVariable Long id) {
+        return likeCountReconciler.reconcileArticle(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+}
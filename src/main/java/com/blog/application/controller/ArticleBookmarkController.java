@@ -3,6 +3,7 @@ package com.blog.application.controller;
 import com.blog.application.common.response.ApiResponse;
 import com.blog.application.common.status.SuccessStatus;
 import com.blog.application.service.ArticleBookmarkService;
+import com.blog.application.service.ReactionSetCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -80,12 +81,11 @@ public class ArticleBookmarkController {
             @Parameter(description = "게시글 ID") @PathVariable Long articleId,
             @AuthenticationPrincipal UserDetails userDetails) {
         
-        boolean isBookmarked = articleBookmarkService.isBookmarked(articleId, userDetails.getUsername());
-        long bookmarkCount = articleBookmarkService.getBookmarkCount(articleId);
+        ReactionSetCache.ReactionStatus status = articleBookmarkService.getBookmarkStatus(articleId, userDetails.getUsername());
         
         Map<String, Object> data = Map.of(
-            "bookmarked", isBookmarked,
-            "bookmarkCount", bookmarkCount
+            "bookmarked", status.member(),
+            "bookmarkCount", status.count()
         );
         
         return ResponseEntity.ok(ApiResponse.success(SuccessStatus.ARTICLE_READ_SUCCESS, data));
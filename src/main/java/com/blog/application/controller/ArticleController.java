@@ -2,17 +2,38 @@ package com.blog.application.controller;
 
 import com.blog.application.entity.Article;
 import com.blog.application.response.ArticleDTO;
+import com.blog.application.response.ArticleDetailDTO;
+import com.blog.application.response.ArticleSearchResultDTO;
+import com.blog.application.response.ArticleSummaryDTO;
+import com.blog.application.response.BulkArticleResultDTO;
+import com.blog.application.service.ArticleBulkService;
+import com.blog.application.service.ArticleCacheService;
+import com.blog.application.service.ArticleDetailService;
+import com.blog.application.service.ArticleSearchService;
 import com.blog.application.service.ArticleService;
+import com.blog.application.service.TrendingService;
+import com.blog.application.service.ViewCountService;
 import com.blog.application.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -21,33 +42,149 @@ import java.util.Optional;
 public class ArticleController {
 
     private final ArticleService articleService;
+    private final ArticleSearchService articleSearchService;
+    private final ArticleBulkService articleBulkService;
+    private final ArticleDetailService articleDetailService;
+    private final TrendingService trendingService;
+    private final ViewCountService viewCountService;
     private final UserService userService;
 
-    public ArticleController(ArticleService articleService, UserService userService) {
+    public ArticleController(ArticleService articleService, ArticleSearchService articleSearchService,
+                             ArticleBulkService articleBulkService, ArticleDetailService articleDetailService,
+                             TrendingService trendingService, ViewCountService viewCountService,
+                             UserService userService) {
         this.articleService = articleService;
+        this.articleSearchService = articleSearchService;
+        this.articleBulkService = articleBulkService;
+        this.articleDetailService = articleDetailService;
+        this.trendingService = trendingService;
+        this.viewCountService = viewCountService;
         this.userService = userService;
     }
 
     @GetMapping
-    @Operation(summary = "모든 게시글 조회", description = "모든 게시글을 조회합니다.")
+    @Operation(summary = "모든 게시글 조회",
+            description = "모든 게시글을 조회합니다. after 또는 limit을 지정하면 커서 기반 페이지로 조회하며, 응답의 nextCursor를 다음 요청의 after로 사용합니다. "
+                    + "view=summary를 지정하면 본문을 제외한 요약(ID, 작성자, 제목, 좋아요 수, 댓글 수)만 반환합니다.")
     @ApiResponse(responseCode = "200", description = "성공적으로 게시글 목록을 조회했습니다.")
-    public ResponseEntity<List<ArticleDTO>> getAllArticles() {
+    public ResponseEntity<?> getAllArticles(
+            @Parameter(description = "이 게시글 ID 이후부터 조회 (커서)") @RequestParam(required = false) Long after,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "summary: 본문 없이 요약만 조회") @RequestParam(required = false) String view) {
+        boolean cursorMode = after != null || limit != null;
+        if ("summary".equalsIgnoreCase(view)) {
+            return cursorMode
+                    ? ResponseEntity.ok(articleService.getArticleSummariesAfter(after, limit))
+                    : ResponseEntity.ok(articleService.getAllArticleSummaries());
+        }
+        if (cursorMode) {
+            return ResponseEntity.ok(articleService.getArticlesAfter(after, limit));
+        }
+
         List<Article> articles = articleService.getAllArticles();
         return new ResponseEntity<>(articles.stream()
                 .map(ArticleDTO::new)
                 .toList(), HttpStatus.OK);
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "게시글 검색", description = "제목과 내용에서 검색어를 찾아 관련도(BM25) 순으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "검색 성공")
+    @ApiResponse(responseCode = "400", description = "검색어가 비어있거나 페이지 번호가 음수입니다.")
+    public ResponseEntity<?> searchArticles(
+            @Parameter(description = "검색어") @RequestParam String q,
+            @Parameter(description = "페이지 번호 (0부터)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(required = false) Integer size) {
+        if (q.trim().isEmpty()) {
+            return ResponseEntity.badRequest().body("Query must not be empty.");
+        }
+        if (page < 0) {
+            return ResponseEntity.badRequest().body("Page must not be negative.");
+        }
+        ArticleSearchResultDTO result = articleSearchService.search(q, page, ArticleService.normalizePageSize(size));
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/trending")
+    @Operation(summary = "인기 게시글 조회", description = "최근 좋아요와 댓글을 시간 감쇠 점수로 합산한 인기 게시글 요약을 점수 높은 순으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "인기 게시글 조회 성공")
+    public ResponseEntity<List<ArticleSummaryDTO>> getTrendingArticles(
+            @Parameter(description = "조회 개수 (기본 20, 최대 100)") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(trendingService.getTrending(limit));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "게시글 전체 내보내기", description = "모든 게시글을 NDJSON(한 줄에 게시글 하나) 스트림으로 내보냅니다.")
+    @ApiResponse(responseCode = "200", description = "내보내기 성공")
+    public void exportArticles(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        articleService.exportArticles(response.getOutputStream());
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "게시글 조회", description = "ID로 특정 게시글을 조회합니다.")
-    @ApiResponse(responseCode = "200", description = "게시글 조회 성공")
+    @ApiResponse(responseCode = "200", description = "게시글 조회 성공",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ArticleDTO.class)))
+    @ApiResponse(responseCode = "304", description = "If-None-Match의 ETag와 같아 변경되지 않았습니다.")
     @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없습니다.")
-    public ResponseEntity<ArticleDTO> getArticleById(@Parameter(description = "게시글 ID") @PathVariable Long id) {
-        Optional<Article> article = articleService.getArticleById(id);
-        return article.map(value -> new ResponseEntity<>(new ArticleDTO(value), HttpStatus.OK))
+    public ResponseEntity<byte[]> getArticleById(
+            @Parameter(description = "게시글 ID") @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<ArticleCacheService.EncodedArticle> article = articleService.getEncodedArticle(id);
+        if (article.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        // 캐시된 바이트를 그대로 내려보내고, 클라이언트가 gzip을 받을 수 있으면 미리 압축해 둔 본문을 쓴다
+        // ETag를 실어 보내면 If-None-Match가 일치할 때 Spring이 본문 없이 304로 응답한다
+        // 강한 ETag는 content-coding이 다르면 달라야 하므로 gzip 본문에는 별도의 ETag를 붙인다
+        ArticleCacheService.EncodedArticle encoded = article.get();
+        boolean gzip = encoded.gzip() != null && acceptsGzip(acceptEncoding);
+        String eTag = gzip ? gzipETag(encoded.eTag()) : encoded.eTag();
+        // 조회수는 본문을 실제로 내려보낼 때(200)만 올린다 (304는 클라이언트 캐시의 재검증일 뿐이다)
+        if (ifNoneMatch == null || !matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            viewCountService.increment(id);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .eTag(eTag);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+        }
+        return response.body(encoded.json());
+    }
+
+    @GetMapping("/{id}/detail")
+    @Operation(summary = "게시글 상세 화면 조회",
+            description = "게시글, 댓글 첫 페이지, 조회수, 좋아요/북마크 수와 로그인한 사용자의 좋아요/북마크 여부를 한 번에 조회합니다. "
+                    + "게시글 외의 항목은 시간 안에 조회하지 못하면 비워 두고 failedParts에 이름을 담습니다.")
+    @ApiResponse(responseCode = "200", description = "게시글 상세 조회 성공")
+    @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없습니다.")
+    public ResponseEntity<ArticleDetailDTO> getArticleDetail(
+            @Parameter(description = "게시글 ID") @PathVariable Long id,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        String userEmail = userDetails == null ? null : userDetails.getUsername();
+        return articleDetailService.getDetail(id, userEmail)
+                .map(ResponseEntity::ok)
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
+    @GetMapping("/{id}/views")
+    @Operation(summary = "게시글 조회수 조회", description = "게시글 조회수를 조회합니다. 아직 DB에 반영되지 않은 최근 조회도 포함됩니다.")
+    @ApiResponse(responseCode = "200", description = "조회수 조회 성공")
+    @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없습니다.")
+    public ResponseEntity<Map<String, Object>> getViewCount(@Parameter(description = "게시글 ID") @PathVariable Long id) {
+        Long viewCount = viewCountService.getViewCount(id);
+        if (viewCount == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return ResponseEntity.ok(Map.of("articleId", id, "viewCount", viewCount));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "게시글 삭제", description = "게시글을 삭제합니다.")
     @ApiResponse(responseCode = "200", description = "게시글 삭제 성공")
@@ -93,13 +230,31 @@ public class ArticleController {
         return ResponseEntity.ok(new ArticleDTO(savedArticle));
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "게시글 대량 등록",
+            description = "JSON 배열 또는 NDJSON(한 줄에 게시글 하나)으로 받은 게시글을 인증된 사용자 명의로 일괄 등록합니다. "
+                    + "각 항목은 title, content로 구성되며, 실패한 항목은 요청 내 순서(index)와 사유를 함께 반환하고 나머지는 계속 등록합니다.")
+    @ApiResponse(responseCode = "200", description = "대량 등록 처리 완료 (항목별 실패는 failures에 포함)",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = BulkArticleResultDTO.class)))
+    @ApiResponse(responseCode = "401", description = "인증 필요")
+    public ResponseEntity<BulkArticleResultDTO> createArticlesInBulk(HttpServletRequest request,
+                                                                     @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+        // 본문을 한 번에 바인딩하지 않고 스트림으로 넘겨 항목 수와 관계없이 메모리 사용을 일정하게 유지
+        BulkArticleResultDTO result = articleBulkService.ingest(request.getInputStream(), userDetails.getUsername());
+        return ResponseEntity.ok(result);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "게시글 수정", description = "기존 게시글을 수정합니다.")
     @ApiResponse(responseCode = "200", description = "게시글 수정 성공")
     @ApiResponse(responseCode = "400", description = "제목 또는 내용이 비어있습니다.")
     @ApiResponse(responseCode = "401", description = "인증 실패")
     @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없습니다.")
-    public ResponseEntity<?> updateArticle(@Parameter(description = "게시글 ID") @PathVariable Long id, @RequestBody ArticleUpdateRequest request) {
+    @ApiResponse(responseCode = "409", description = "동시에 다른 수정이 먼저 반영되었습니다.")
+    @ApiResponse(responseCode = "412", description = "If-Match의 ETag가 현재 게시글 버전과 다릅니다.")
+    public ResponseEntity<?> updateArticle(@Parameter(description = "게시글 ID") @PathVariable Long id,
+                                           @Parameter(description = "수정 기준이 되는 게시글 ETag") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                           @RequestBody ArticleUpdateRequest request) {
         if (request.getTitle() == null || request.getTitle().trim().isEmpty() ||
                 request.getContent() == null || request.getContent().trim().isEmpty()) {
             return ResponseEntity.badRequest().body("Title and content must not be empty.");
@@ -116,10 +271,65 @@ public class ArticleController {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
         }
 
+        // 클라이언트가 본 버전과 현재 버전이 다르면 덮어쓰지 않는다
+        String currentETag = ArticleDTO.eTagOf(article.getId(), article.getVersion(), article.getCommentCount());
+        if (ifMatch != null && !matchesETag(ifMatch, currentETag)) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).eTag(currentETag).build();
+        }
+
         article.setTitle(request.getTitle());
         article.setContent(request.getContent());
         Article updatedArticle = articleService.saveArticle(article);
-        return ResponseEntity.ok(new ArticleDTO(updatedArticle));
+        ArticleDTO updatedDTO = new ArticleDTO(updatedArticle);
+        return ResponseEntity.ok().eTag(updatedDTO.getETag()).body(updatedDTO);
+    }
+
+    // Accept-Encoding에 gzip(또는 *)이 q=0이 아닌 값으로 포함되어 있는지 확인
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            String coding = parts[0].trim();
+            boolean disabled = parts.length > 1 && parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            if (!disabled && (coding.equalsIgnoreCase("gzip") || coding.equals("*"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // gzip 본문용 ETag: "id-version-commentCount" -> "id-version-commentCount-gzip"
+    private static String gzipETag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+    }
+
+    // If-Match 헤더 비교 (강한 비교: 약한 ETag(W/)는 일치로 보지 않음)
+    // 같은 버전이면 gzip 본문으로 받은 ETag도 일치로 본다
+    private static boolean matchesETag(String ifMatch, String currentETag) {
+        String currentGzipETag = gzipETag(currentETag);
+        for (String candidate : ifMatch.split(",")) {
+            String eTag = candidate.trim();
+            if (eTag.equals("*") || eTag.equals(currentETag) || eTag.equals(currentGzipETag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-None-Match 헤더 비교 (약한 비교: W/ 접두사는 무시, Spring이 304를 판단하는 방식과 같다)
+    private static boolean matchesIfNoneMatch(String ifNoneMatch, String eTag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     static class ArticleRequest {
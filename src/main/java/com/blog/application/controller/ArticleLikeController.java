@@ -3,6 +3,7 @@ package com.blog.application.controller;
 import com.blog.application.common.response.ApiResponse;
 import com.blog.application.common.status.SuccessStatus;
 import com.blog.application.service.ArticleLikeService;
+import com.blog.application.service.ReactionSetCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -80,12 +81,11 @@ public class ArticleLikeController {
             @Parameter(description = "게시글 ID") @PathVariable Long articleId,
             @AuthenticationPrincipal UserDetails userDetails) {
         
-        boolean isLiked = articleLikeService.isLiked(articleId, userDetails.getUsername());
-        long likeCount = articleLikeService.getLikeCount(articleId);
+        ReactionSetCache.ReactionStatus status = articleLikeService.getLikeStatus(articleId, userDetails.getUsername());
         
         Map<String, Object> data = Map.of(
-            "liked", isLiked,
-            "likeCount", likeCount
+            "liked", status.member(),
+            "likeCount", status.count()
         );
         
         return ResponseEntity.ok(ApiResponse.success(SuccessStatus.ARTICLE_READ_SUCCESS, data));
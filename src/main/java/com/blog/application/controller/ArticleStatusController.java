@@ -0,0 +1,43 @@
+package com.blog.application.controller;
+
+import com.blog.application.common.response.ApiResponse;
+import com.blog.application.common.status.SuccessStatus;
+import com.blog.application.request.ArticleStatusRequestDTO;
+import com.blog.application.response.ArticleStatusDTO;
+import com.blog.application.service.ArticleStatusService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/articles")
+@RequiredArgsConstructor
+@Tag(name = "Article Status", description = "게시글 좋아요/북마크 상태 일괄 조회 API")
+public class ArticleStatusController {
+
+    private final ArticleStatusService articleStatusService;
+
+    @PostMapping("/status")
+    @Operation(summary = "게시글 상태 일괄 조회",
+            description = "여러 게시글(최대 100개)의 좋아요 여부, 북마크 여부, 좋아요 수를 한 번에 조회합니다. 존재하지 않는 게시글은 결과에서 제외됩니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "게시글 ID 목록이 비었거나 100개를 넘음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    public ResponseEntity<ApiResponse<List<ArticleStatusDTO>>> getStatuses(
+            @Valid @RequestBody ArticleStatusRequestDTO request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        List<ArticleStatusDTO> statuses = articleStatusService.getStatuses(request.getArticleIds(), userDetails.getUsername());
+        return ResponseEntity.ok(ApiResponse.success(SuccessStatus.ARTICLE_READ_SUCCESS, statuses));
+    }
+}
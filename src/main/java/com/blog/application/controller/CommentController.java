@@ -4,16 +4,20 @@ import com.blog.application.entity.Article;
 import com.blog.application.entity.Comment;
 import com.blog.application.entity.User;
 import com.blog.application.response.CommentDTO;
+import com.blog.application.response.CommentNodeDTO;
 import com.blog.application.service.ArticleService;
 import com.blog.application.service.CommentService;
+import com.blog.application.service.CommentStreamService;
 import com.blog.application.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,29 +28,65 @@ import java.util.Optional;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamService commentStreamService;
     private final ArticleService articleService;
     private final UserService userService;
 
-    public CommentController(CommentService commentService, ArticleService articleService, UserService userService) {
+    public CommentController(CommentService commentService, CommentStreamService commentStreamService,
+                             ArticleService articleService, UserService userService) {
         this.commentService = commentService;
+        this.commentStreamService = commentStreamService;
         this.articleService = articleService;
         this.userService = userService;
     }
 
-    @GetMapping("/")
-    @Operation(summary = "댓글 목록 조회", description = "특정 게시글의 모든 댓글을 조회합니다.")
+    @GetMapping({"", "/"})
+    @Operation(summary = "댓글 목록 조회",
+            description = "특정 게시글의 댓글을 조회합니다. after 또는 limit을 지정하면 커서 기반 페이지로 조회하며, 응답의 nextCursor를 다음 요청의 after로 사용합니다.")
     @ApiResponse(responseCode = "200", description = "성공적으로 댓글 목록을 조회했습니다.")
-    public ResponseEntity<List<CommentDTO>> getComments(@Parameter(description = "게시글 ID") @PathVariable Long articleId) {
-        List<Comment> comments = commentService.getCommentsByArticleId(articleId);
-        return new ResponseEntity<>(comments.stream()
-                .map(comment -> new CommentDTO(comment.getId(), comment.getUser().getEmail(), comment.getContent()))
-                .toList(), HttpStatus.OK);
+    public ResponseEntity<?> getComments(
+            @Parameter(description = "게시글 ID") @PathVariable Long articleId,
+            @Parameter(description = "이 댓글 ID 이후부터 조회 (커서)") @RequestParam(required = false) Long after,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(required = false) Integer limit) {
+        if (after != null || limit != null) {
+            return ResponseEntity.ok(commentService.getCommentsAfter(articleId, after, limit));
+        }
+        List<CommentDTO> comments = commentService.getCommentsByArticleId(articleId);
+        return new ResponseEntity<>(comments, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "새 댓글 스트림", description = "게시글에 새 댓글이 작성될 때마다 SSE(comment 이벤트)로 전달합니다. 폴링 대신 사용합니다.")
+    @ApiResponse(responseCode = "200", description = "스트림 연결 성공")
+    @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없습니다.")
+    @ApiResponse(responseCode = "503", description = "구독자 수가 상한에 도달했습니다.")
+    public ResponseEntity<SseEmitter> streamComments(@Parameter(description = "게시글 ID") @PathVariable Long articleId) {
+        if (articleService.getArticleById(articleId).isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        return commentStreamService.subscribe(articleId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+
+    @GetMapping("/{commentId}/thread")
+    @Operation(summary = "댓글 스레드 조회", description = "댓글과 그 아래 답글을 중첩 구조로 조회합니다. depth를 지정하면 해당 단계까지만 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "스레드 조회 성공")
+    @ApiResponse(responseCode = "404", description = "댓글을 찾을 수 없습니다.")
+    public ResponseEntity<?> getThread(@Parameter(description = "게시글 ID") @PathVariable Long articleId,
+                                       @Parameter(description = "댓글 ID") @PathVariable Long commentId,
+                                       @Parameter(description = "조회할 답글 깊이 (기본: 전체)") @RequestParam(required = false) Integer depth) {
+        Optional<CommentNodeDTO> thread = commentService.getThread(articleId, commentId, depth);
+        if (thread.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Comment not found.");
+        }
+        return ResponseEntity.ok(thread.get());
     }
 
     @PostMapping
-    @Operation(summary = "댓글 작성", description = "새로운 댓글을 작성합니다.")
+    @Operation(summary = "댓글 작성", description = "새로운 댓글을 작성합니다. parentId를 지정하면 해당 댓글의 답글로 작성합니다.")
     @ApiResponse(responseCode = "200", description = "댓글 작성 성공")
-    @ApiResponse(responseCode = "400", description = "댓글 내용이 비어있습니다.")
+    @ApiResponse(responseCode = "400", description = "댓글 내용이 비어있거나 부모 댓글이 올바르지 않습니다.")
     @ApiResponse(responseCode = "401", description = "인증 실패")
     @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없습니다.")
     public ResponseEntity<?> createComment(@Parameter(description = "게시글 ID") @PathVariable Long articleId, @RequestBody CommentRequest request) {
@@ -71,13 +111,13 @@ public class CommentController {
         newComment.setUser(user);
         newComment.setArticle(article);
 
-        Comment savedComment = commentService.saveComment(newComment);
+        Comment savedComment = commentService.createComment(newComment, request.getParentId());
         CommentResponse response = new CommentResponse(savedComment.getId(), user.getEmail(), savedComment.getContent());
         return ResponseEntity.ok(response);
     }
 
     @DeleteMapping("/{commentId}")
-    @Operation(summary = "댓글 삭제", description = "댓글을 삭제합니다.")
+    @Operation(summary = "댓글 삭제", description = "댓글을 삭제합니다. 댓글에 달린 답글도 함께 삭제됩니다.")
     @ApiResponse(responseCode = "200", description = "댓글 삭제 성공")
     @ApiResponse(responseCode = "400", description = "비정상적인 요청")
     @ApiResponse(responseCode = "401", description = "인증 실패")
@@ -142,6 +182,7 @@ public class CommentController {
         private String email;
         private String password;
         private String content;
+        private Long parentId;
 
         public String getEmail() { return email; }
         public void setEmail(String email) { this.email = email; }
@@ -149,6 +190,8 @@ public class CommentController {
         public void setPassword(String password) { this.password = password; }
         public String getContent() { return content; }
         public void setContent(String content) { this.content = content; }
+        public Long getParentId() { return parentId; }
+        public void setParentId(Long parentId) { this.parentId = parentId; }
     }
 
     static class CommentUpdateRequest {
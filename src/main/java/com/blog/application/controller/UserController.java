@@ -1,8 +1,14 @@
 package com.blog.application.controller;
 
 import com.blog.application.entity.User;
+import com.blog.application.response.ArticleSummaryDTO;
+import com.blog.application.response.BookmarkedArticleDTO;
+import com.blog.application.response.CursorPageDTO;
 import com.blog.application.response.UserDTO;
 import com.blog.application.response.UserIdDTO;
+import com.blog.application.service.ArticleBookmarkService;
+import com.blog.application.service.ArticleLikeService;
+import com.blog.application.service.ArticleService;
 import com.blog.application.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,6 +16,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.Optional;
@@ -20,9 +28,16 @@ import java.util.Optional;
 public class UserController {
 
     private final UserService userService;
+    private final ArticleService articleService;
+    private final ArticleLikeService articleLikeService;
+    private final ArticleBookmarkService articleBookmarkService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, ArticleService articleService,
+                          ArticleLikeService articleLikeService, ArticleBookmarkService articleBookmarkService) {
         this.userService = userService;
+        this.articleService = articleService;
+        this.articleLikeService = articleLikeService;
+        this.articleBookmarkService = articleBookmarkService;
     }
 
     @GetMapping
@@ -35,6 +50,19 @@ public class UserController {
                 .toList(), HttpStatus.OK);
     }
 
+    @GetMapping("/me/bookmarks")
+    @Operation(summary = "내 북마크 목록 조회",
+            description = "로그인한 사용자가 북마크한 게시글 요약을 최신 북마크순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 사용합니다.")
+    @ApiResponse(responseCode = "200", description = "성공적으로 북마크 목록을 조회했습니다.")
+    @ApiResponse(responseCode = "400", description = "잘못된 커서입니다.")
+    @ApiResponse(responseCode = "401", description = "인증 필요")
+    public ResponseEntity<CursorPageDTO<BookmarkedArticleDTO>> getMyBookmarks(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(articleBookmarkService.getBookmarks(userDetails.getUsername(), cursor, limit));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "사용자 조회", description = "ID로 특정 사용자를 조회합니다.")
     @ApiResponse(responseCode = "200", description = "사용자 조회 성공")
@@ -45,6 +73,36 @@ public class UserController {
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
+    @GetMapping("/{id}/articles")
+    @Operation(summary = "작성자별 게시글 조회",
+            description = "특정 사용자가 작성한 게시글 요약을 최신순으로 조회합니다. 응답의 nextCursor를 다음 요청의 before로 사용합니다.")
+    @ApiResponse(responseCode = "200", description = "성공적으로 게시글 목록을 조회했습니다.")
+    @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없습니다.")
+    public ResponseEntity<CursorPageDTO<ArticleSummaryDTO>> getArticlesByUser(
+            @Parameter(description = "사용자 ID") @PathVariable Long id,
+            @Parameter(description = "이 게시글 ID보다 오래된 게시글부터 조회 (커서)") @RequestParam(required = false) Long before,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(required = false) Integer limit) {
+        if (!userService.existsById(id)) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return ResponseEntity.ok(articleService.getArticleSummariesByAuthor(id, before, limit));
+    }
+
+    @GetMapping("/{id}/common-likes")
+    @Operation(summary = "함께 좋아요한 게시글 조회",
+            description = "두 사용자가 모두 좋아요한 게시글 요약을 최신순으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "성공적으로 게시글 목록을 조회했습니다.")
+    @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없습니다.")
+    public ResponseEntity<List<ArticleSummaryDTO>> getCommonLikedArticles(
+            @Parameter(description = "사용자 ID") @PathVariable Long id,
+            @Parameter(description = "비교할 사용자 ID") @RequestParam("with") Long otherUserId,
+            @Parameter(description = "최대 개수 (기본 20, 최대 100)") @RequestParam(required = false) Integer limit) {
+        if (!userService.existsById(id) || !userService.existsById(otherUserId)) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return ResponseEntity.ok(articleLikeService.getCommonLikedArticles(id, otherUserId, limit));
+    }
+
     @PostMapping
     @Operation(summary = "사용자 등록", description = "새로운 사용자를 등록합니다.")
     @ApiResponse(responseCode = "200", description = "사용자 등록 성공")
@@ -9,14 +9,36 @@ import jakarta.persistence.*; // 패키지 내의 모든 클래스를 import하
 public class Article {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 insert마다 키를 받아와야 해서 JDBC 배치가 꺼지므로 시퀀스에서 50개씩 미리 할당받는다
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", allocationSize = 50)
     private Long id;
 
     private String title;
     private String content;
     
-    @Column(name = "like_count", nullable = false)
+    // 좋아요 수: 좋아요 추가/취소 시 UPDATE 문으로 원자적으로 증감하므로 엔티티 저장 시 덮어쓰지 않는다
+    @Column(name = "like_count", nullable = false, updatable = false)
     private Long likeCount = 0L;
+
+    // 조회수: ViewCountService가 모아 둔 증가분을 UPDATE 문으로 직접 더하므로
+    // 엔티티 저장 시 덮어쓰지 않도록 updatable = false
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private Long viewCount = 0L;
+
+    // 댓글 수: 댓글 작성/삭제 시 UPDATE 문으로 원자적으로 증감하므로 엔티티 저장 시 덮어쓰지 않는다
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private Long commentCount = 0L;
+
+    // 북마크 수: 북마크 추가/취소 시 UPDATE 문으로 원자적으로 증감하므로 엔티티 저장 시 덮어쓰지 않는다
+    @Column(name = "bookmark_count", nullable = false, updatable = false)
+    private Long bookmarkCount = 0L;
+
+    // 낙관적 잠금용 버전: 수정될 때마다 1씩 증가하며 ETag 계산에도 사용된다
+    // 새 엔티티는 null로 두어야 Spring Data가 persist 대상으로 판단한다 (저장 시 0으로 채워짐)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
     // 각 게시글은 반드시 작성자(User)를 가져야 하며, LAZY 로딩 적용
     @ManyToOne(fetch = FetchType.LAZY)
     // LAZY(지연 로딩) : 관련된 엔티티를 실제로 필요할 때까지 데이터베이스에서 조회하지 않는 전략, 반대는 EAGER 로딩임
@@ -36,6 +58,9 @@ public class Article {
         this.content = content;
         this.user = user;
         this.likeCount = 0L; // 초기값 설정
+        this.viewCount = 0L;
+        this.commentCount = 0L;
+        this.bookmarkCount = 0L;
     }
 
     // Getter & Setter 메서드들
@@ -72,6 +97,26 @@ public class Article {
         this.content = content;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Long getViewCount() {
+        return viewCount;
+    }
+
+    public Long getCommentCount() {
+        return commentCount;
+    }
+
+    public Long getBookmarkCount() {
+        return bookmarkCount;
+    }
+
     public Long getLikeCount() {
         return likeCount;
     }
@@ -79,18 +124,6 @@ public class Article {
     public void setLikeCount(Long likeCount) {
         this.likeCount = likeCount;
     }
-    
-    // 비즈니스 메서드: 좋아요 개수 증가
-    public void incrementLikeCount() {
-        this.likeCount++;
-    }
-    
-    // 비즈니스 메서드: 좋아요 개수 감소
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
 }
 
 //Article 엔티티는 게시글 정보를 나타내며, 제목, 내용, 그리고 작성자(User)와의 연관관계를 포함한다
@@ -5,19 +5,37 @@ import jakarta.persistence.*;
 @Entity
 public class Comment {
 
+    // 답글 최대 깊이 (루트 댓글이 0), path 길이는 (MAX_DEPTH + 1) * 11자를 넘지 않는다
+    public static final int MAX_DEPTH = 20;
+    // path에서 id 하나가 차지하는 자릿수 (0으로 채워 문자열 정렬 순서가 id 순서와 같게 함)
+    private static final int PATH_SEGMENT_DIGITS = 10;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     private String content;
 
+    // 부모 댓글 id (루트 댓글이면 null)
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // 루트부터 자신까지의 id 경로 (예: 0000000001/0000000007/), 서브트리 조회/삭제에 사용
+    @Column(name = "path", length = 255)
+    private String path;
+
+    // 스레드 내 깊이 (루트 댓글이 0)
+    @Column(name = "depth", nullable = false)
+    private int depth;
+
     // 여러 댓글은 하나의 User에 속함 (다대일 관계)
-    @ManyToOne
+    // 기본값(EAGER)이면 댓글마다 작성자를 함께 읽으므로 LAZY로 두고, 목록은 DTO 프로젝션으로 조회한다
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
     // 여러 댓글은 하나의 Article에 속함 (다대일 관계)
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "article_id")
     private Article article;
 
@@ -47,6 +65,38 @@ public class Comment {
         this.user = user;
     }
 
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * id가 정해진 뒤 부모 댓글 기준으로 path와 depth를 설정 (parent가 null이면 루트 댓글)
+     */
+    public void placeUnder(Comment parent) {
+        String segment = String.format("%0" + PATH_SEGMENT_DIGITS + "d/", id);
+        if (parent == null) {
+            this.parentId = null;
+            this.path = segment;
+            this.depth = 0;
+        } else {
+            this.parentId = parent.getId();
+            this.path = parent.getPath() + segment;
+            this.depth = parent.getDepth() + 1;
+        }
+    }
+
     public Article getArticle() {
         return article;
     }
@@ -58,3 +108,4 @@ public class Comment {
 
 //Comment 엔티티는 댓글 정보를 나타내며, 댓글의 내용과 댓글 작성자(User), 그리고 어느 게시글(Article)에 속하는지의 정보를 포함한다.
 //다대일(Many-to-One) 관계를 통해 여러 댓글이 하나의 게시글 또는 사용자에 연결된다.
+//답글은 부모 댓글 id와 materialized path(루트부터의 id 경로)로 스레드 구조를 표현한다.
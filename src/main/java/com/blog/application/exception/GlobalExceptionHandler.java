@@ -4,6 +4,7 @@ import com.blog.application.common.response.ApiResponse;
 import com.blog.application.common.status.ErrorStatus;
 import com.blog.application.response.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -43,6 +44,15 @@ public class GlobalExceptionHandler {
             .body(ApiResponse.error(ErrorStatus.UNAUTHORIZED, e.getMessage()));
     }
     
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException e, HttpServletRequest request) {
+        
+        return ResponseEntity
+            .status(ErrorStatus.ARTICLE_VERSION_CONFLICT.getHttpStatus())
+            .body(ApiResponse.error(ErrorStatus.ARTICLE_VERSION_CONFLICT));
+    }
+    
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<List<ErrorResponse.FieldError>>> handleValidationException(
             MethodArgumentNotValidException e, HttpServletRequest request) {
@@ -0,0 +1,141 @@
+package com.blog.application.repository.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 좋아요/북마크 행을 엔티티 없이 id만으로 추가/삭제하는 JDBC 저장소
+ *
+ * 추가는 "없을 때만 넣는" 문장 하나(PostgreSQL: INSERT ... ON CONFLICT DO NOTHING, H2: MERGE ... WHEN NOT MATCHED)로,
+ * 삭제는 조건부 DELETE 하나로 처리하고 바뀐 행 수로 결과를 판단한다.
+ * PostgreSQL의 ON CONFLICT만 동시 추가에도 원자적이고, H2의 MERGE와 그 밖의 DB의 NOT EXISTS는
+ * 같은 행을 동시에 넣으면 나중 문장이 UNIQUE 제약 위반으로 실패한다. 이 경우는 "이미 있음"(false)으로 처리한다
+ * (H2와 MySQL 계열은 실패한 문장만 취소되고 트랜잭션은 계속 쓸 수 있다).
+ * 게시글/사용자가 없으면 추가되는 행이 없다 (FK 위반 예외 대신 0건).
+ * JPA 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션의 JPA 변경은 호출 전에 flush 해야 한다.
+ */
+@Slf4j
+@Repository
+public class ReactionWriteRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+
+    public ReactionWriteRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = detectDialect(dataSource);
+        log.info("Reaction writes use {} insert-if-absent statements", dialect);
+    }
+
+    /**
+     * 좋아요/북마크 토글: 있으면 지우고, 없으면 추가한다 (문장 한 번 또는 두 번)
+     */
+    public ToggleResult toggle(ReactionTable table, Long userId, Long articleId) {
+        if (delete(table, userId, articleId)) {
+            return ToggleResult.REMOVED;
+        }
+        return insertIfAbsent(table, userId, articleId) ? ToggleResult.ADDED : ToggleResult.UNCHANGED;
+    }
+
+    /**
+     * 없을 때만 추가
+     * @return 실제로 추가했으면 true (이미 있거나 게시글/사용자가 없으면 false)
+     */
+    public boolean insertIfAbsent(ReactionTable table, Long userId, Long articleId) {
+        try {
+            return insert(table, userId, articleId);
+        } catch (DuplicateKeyException e) {
+            // 같은 행이 동시에 추가됨 (H2 MERGE, NOT EXISTS는 동시 추가에 원자적이지 않다)
+            log.debug("Concurrent insert into {}: user={}, article={}", table.tableName(), userId, articleId);
+            return false;
+        }
+    }
+
+    private boolean insert(ReactionTable table, Long userId, Long articleId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return switch (dialect) {
+            case POSTGRESQL -> jdbcTemplate.update(
+                    "INSERT INTO " + table.tableName() + " (user_id, article_id, created_at) " +
+                    "SELECT u.id, a.id, ? FROM \"user\" u, \"article\" a WHERE u.id = ? AND a.id = ? " +
+                    "ON CONFLICT (user_id, article_id) DO NOTHING",
+                    now, userId, articleId) > 0;
+            case H2 -> jdbcTemplate.update(
+                    "MERGE INTO " + table.tableName() + " t " +
+                    "USING (SELECT u.id AS user_id, a.id AS article_id FROM \"user\" u, \"article\" a WHERE u.id = ? AND a.id = ?) s " +
+                    "ON t.user_id = s.user_id AND t.article_id = s.article_id " +
+                    "WHEN NOT MATCHED THEN INSERT (user_id, article_id, created_at) VALUES (s.user_id, s.article_id, ?)",
+                    userId, articleId, now) > 0;
+            // 그 밖의 DB: 동시에 같은 행을 넣으면 UNIQUE 제약이 막는다 (insertIfAbsent에서 false로 처리)
+            case GENERIC -> jdbcTemplate.update(
+                    "INSERT INTO " + table.tableName() + " (user_id, article_id, created_at) " +
+                    "SELECT u.id, a.id, ? FROM \"user\" u, \"article\" a WHERE u.id = ? AND a.id = ? " +
+                    "AND NOT EXISTS (SELECT 1 FROM " + table.tableName() + " r WHERE r.user_id = u.id AND r.article_id = a.id)",
+                    now, userId, articleId) > 0;
+        };
+    }
+
+    /**
+     * 있을 때만 삭제
+     * @return 실제로 삭제했으면 true
+     */
+    public boolean delete(ReactionTable table, Long userId, Long articleId) {
+        return jdbcTemplate.update(
+                "DELETE FROM " + table.tableName() + " WHERE user_id = ? AND article_id = ?",
+                userId, articleId) > 0;
+    }
+
+    private static Dialect detectDialect(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            String name = product == null ? "" : product.toLowerCase(Locale.ROOT);
+            if (name.contains("postgresql")) {
+                return Dialect.POSTGRESQL;
+            }
+            if (name.contains("h2")) {
+                return Dialect.H2;
+            }
+            return Dialect.GENERIC;
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not detect database product - using generic reaction statements", e);
+            return Dialect.GENERIC;
+        }
+    }
+
+    private enum Dialect {
+        POSTGRESQL,
+        H2,
+        GENERIC
+    }
+
+    public enum ReactionTable {
+        LIKE("article_like"),
+        BOOKMARK("article_bookmark");
+
+        private final String tableName;
+
+        ReactionTable(String tableName) {
+            this.tableName = tableName;
+        }
+
+        String tableName() {
+            return tableName;
+        }
+    }
+
+    public enum ToggleResult {
+        ADDED,
+        REMOVED,
+        // 바뀐 행이 없음: 게시글/사용자가 없거나, 지울 행이 없었는데 그 사이 다른 요청이 같은 행을 추가함
+        UNCHANGED
+    }
+}
@@ -3,12 +3,16 @@ package com.blog.application.repository.jpa;
 import com.blog.application.entity.Article;
 import com.blog.application.entity.ArticleBookmark;
 import com.blog.application.entity.User;
+import com.blog.application.response.BookmarkedArticleDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -30,10 +34,46 @@ public interface ArticleBookmarkRepository extends JpaRepository<ArticleBookmark
     long countByArticle(Article article);
 
     /**
-     * 특정 사용자의 북마크 목록 조회
+     * 특정 게시글을 북마크한 사용자 이메일 목록 조회 (Redis 집합 채우기용)
      */
-    @Query("SELECT ab.article FROM ArticleBookmark ab WHERE ab.user = :user ORDER BY ab.createdAt DESC")
-    java.util.List<Article> findBookmarkedArticlesByUser(@Param("user") User user);
+    @Query("SELECT ab.user.email FROM ArticleBookmark ab WHERE ab.article.id = :articleId")
+    java.util.List<String> findUserEmailsByArticleId(@Param("articleId") Long articleId);
+
+    /**
+     * 주어진 게시글 중 사용자가 북마크한 게시글 id 조회 (IN 조회 한 번)
+     */
+    @Query("SELECT ab.article.id FROM ArticleBookmark ab WHERE ab.user.id = :userId AND ab.article.id IN :articleIds")
+    java.util.List<Long> findBookmarkedArticleIds(@Param("userId") Long userId,
+                                                  @Param("articleIds") java.util.Collection<Long> articleIds);
+
+    /**
+     * 특정 사용자가 북마크한 게시글 id 목록 조회 (사용자 삭제 시 사용)
+     */
+    @Query("SELECT ab.article.id FROM ArticleBookmark ab WHERE ab.user.id = :userId")
+    List<Long> findArticleIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 내 북마크 목록 첫 페이지 조회 (최신순)
+     * 게시글과 작성자를 조인해 DTO로 바로 만들기 때문에 한 번의 쿼리로 끝난다
+     * idx_article_bookmark_user_id_created_at_id(user_id, created_at, id) 인덱스 범위 스캔으로 처리된다
+     */
+    @Query("SELECT new com.blog.application.response.BookmarkedArticleDTO(ab.id, a.id, u.email, a.title, a.likeCount, a.commentCount, ab.createdAt) " +
+           "FROM ArticleBookmark ab JOIN ab.article a JOIN a.user u " +
+           "WHERE ab.user.id = :userId ORDER BY ab.createdAt DESC, ab.id DESC")
+    List<BookmarkedArticleDTO> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 내 북마크 목록 키셋 페이지 조회: (createdAt, id) 커서보다 오래된 북마크부터 최신순으로 조회
+     */
+    @Query("SELECT new com.blog.application.response.BookmarkedArticleDTO(ab.id, a.id, u.email, a.title, a.likeCount, a.commentCount, ab.createdAt) " +
+           "FROM ArticleBookmark ab JOIN ab.article a JOIN a.user u " +
+           "WHERE ab.user.id = :userId " +
+           "AND (ab.createdAt < :createdAt OR (ab.createdAt = :createdAt AND ab.id < :id)) " +
+           "ORDER BY ab.createdAt DESC, ab.id DESC")
+    List<BookmarkedArticleDTO> findPageByUserIdBefore(@Param("userId") Long userId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
 
     /**
      * 특정 사용자와 게시글의 북마크 삭제
@@ -3,6 +3,7 @@ package com.blog.application.repository.jpa;
 import com.blog.application.entity.Article;
 import com.blog.application.entity.ArticleLike;
 import com.blog.application.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -29,12 +30,41 @@ public interface ArticleLikeRepository extends JpaRepository<ArticleLike, Long>
      */
     long countByArticle(Article article);
 
+    /**
+     * 특정 게시글에 좋아요를 누른 사용자 이메일 목록 조회 (Redis 집합 채우기용)
+     */
+    @Query("SELECT al.user.email FROM ArticleLike al WHERE al.article.id = :articleId")
+    java.util.List<String> findUserEmailsByArticleId(@Param("articleId") Long articleId);
+
+    /**
+     * 주어진 게시글 중 사용자가 좋아요한 게시글 id 조회 (IN 조회 한 번)
+     */
+    @Query("SELECT al.article.id FROM ArticleLike al WHERE al.user.id = :userId AND al.article.id IN :articleIds")
+    java.util.List<Long> findLikedArticleIds(@Param("userId") Long userId,
+                                             @Param("articleIds") java.util.Collection<Long> articleIds);
+
+    /**
+     * 특정 사용자가 좋아요한 게시글 id 목록 조회 (사용자 삭제 시 사용)
+     */
+    @Query("SELECT al.article.id FROM ArticleLike al WHERE al.user.id = :userId")
+    java.util.List<Long> findArticleIdsByUserId(@Param("userId") Long userId);
+
     /**
      * 특정 사용자의 좋아요 목록 조회
      */
     @Query("SELECT al.article FROM ArticleLike al WHERE al.user = :user ORDER BY al.createdAt DESC")
     java.util.List<Article> findLikedArticlesByUser(@Param("user") User user);
 
+    /**
+     * 두 사용자가 모두 좋아요한 게시글 id 조회 (최신 게시글부터)
+     */
+    @Query("SELECT al.article.id FROM ArticleLike al WHERE al.user.id = :userId AND al.article.id IN " +
+           "(SELECT other.article.id FROM ArticleLike other WHERE other.user.id = :otherUserId) " +
+           "ORDER BY al.article.id DESC")
+    java.util.List<Long> findCommonLikedArticleIds(@Param("userId") Long userId,
+                                                   @Param("otherUserId") Long otherUserId,
+                                                   Pageable pageable);
+
     /**
      * 특정 사용자와 게시글의 좋아요 삭제
      */
@@ -1,18 +1,174 @@
 package com.blog.application.repository.jpa;
 
 import com.blog.application.entity.Article;
+import com.blog.application.response.ArticleDTO;
+import com.blog.application.response.ArticleStatusDTO;
+import com.blog.application.response.ArticleSummaryDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface ArticleRepository extends JpaRepository<Article, Long> {
     // 특정 사용자의 모든 게시글 조회
     List<Article> findAllByUserId(Long userId);
+
+    /**
+     * 게시글 단건을 작성자 이메일과 함께 DTO로 조회 (User 지연 로딩 없이 한 번의 쿼리)
+     */
+    @Query("SELECT new com.blog.application.response.ArticleDTO(a.id, u.email, a.title, a.content, a.version, a.commentCount) " +
+           "FROM Article a JOIN a.user u WHERE a.id = :id")
+    Optional<ArticleDTO> findDTOById(@Param("id") Long id);
+
+    /**
+     * 여러 게시글을 id 목록으로 한 번에 DTO 조회 (순서는 보장하지 않음)
+     */
+    @Query("SELECT new com.blog.application.response.ArticleDTO(a.id, u.email, a.title, a.content, a.version, a.commentCount) " +
+           "FROM Article a JOIN a.user u WHERE a.id IN :ids")
+    List<ArticleDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 댓글 수 원자적 증감 (동시에 댓글이 달려도 읽고-쓰기 경합 없이 DB에서 더한다)
+     * 엔티티의 commentCount는 updatable = false라 영속성 컨텍스트에 남은 이전 값이 덮어쓰지 않는다
+     */
+    @Modifying
+    @Query("UPDATE Article a SET a.commentCount = a.commentCount + :delta WHERE a.id = :id")
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    /**
+     * 좋아요 수 원자적 증감 (0 미만으로는 내려가지 않음)
+     * 엔티티의 likeCount는 updatable = false라 영속성 컨텍스트에 남은 이전 값이 덮어쓰지 않는다
+     */
+    @Modifying
+    @Query("UPDATE Article a SET a.likeCount = a.likeCount + :delta WHERE a.id = :id AND a.likeCount + :delta >= 0")
+    int adjustLikeCount(@Param("id") Long id, @Param("delta") long delta);
+
+    // DB의 현재 좋아요 수만 조회 (엔티티를 읽지 않음)
+    @Query("SELECT a.likeCount FROM Article a WHERE a.id = :id")
+    Optional<Long> findLikeCountById(@Param("id") Long id);
+
+    /**
+     * 여러 게시글의 좋아요 수를 id 목록으로 한 번에 조회 (존재하는 게시글만, 순서는 보장하지 않음)
+     */
+    @Query("SELECT new com.blog.application.response.ArticleStatusDTO(a.id, a.likeCount) FROM Article a WHERE a.id IN :ids")
+    List<ArticleStatusDTO> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 북마크 수 원자적 증감 (0 미만으로는 내려가지 않음)
+     * 엔티티의 bookmarkCount는 updatable = false라 영속성 컨텍스트에 남은 이전 값이 덮어쓰지 않는다
+     */
+    @Modifying
+    @Query("UPDATE Article a SET a.bookmarkCount = a.bookmarkCount + :delta WHERE a.id = :id AND a.bookmarkCount + :delta >= 0")
+    int adjustBookmarkCount(@Param("id") Long id, @Param("delta") long delta);
+
+    // DB의 현재 북마크 수만 조회 (엔티티를 읽지 않음)
+    @Query("SELECT a.bookmarkCount FROM Article a WHERE a.id = :id")
+    Optional<Long> findBookmarkCountById(@Param("id") Long id);
+
+    /**
+     * 사용자 탈퇴 전, 그 사용자가 북마크한 게시글들의 북마크 수를 한 번에 1씩 차감
+     * (북마크 행은 FK ON DELETE CASCADE로 함께 지워진다)
+     */
+    @Modifying
+    @Query(value = "UPDATE \"article\" SET bookmark_count = bookmark_count - 1 " +
+                   "WHERE id IN (SELECT b.article_id FROM article_bookmark b WHERE b.user_id = :userId) AND bookmark_count > 0",
+           nativeQuery = true)
+    int subtractBookmarkCountsOfUser(@Param("userId") Long userId);
+
+    /**
+     * 사용자 탈퇴 전, 그 사용자가 좋아요한 게시글들의 좋아요 수를 한 번에 1씩 차감
+     * (좋아요 행은 FK ON DELETE CASCADE로 함께 지워진다)
+     */
+    @Modifying
+    @Query(value = "UPDATE \"article\" SET like_count = like_count - 1 " +
+                   "WHERE id IN (SELECT l.article_id FROM article_like l WHERE l.user_id = :userId) AND like_count > 0",
+           nativeQuery = true)
+    int subtractLikeCountsOfUser(@Param("userId") Long userId);
+
+    /**
+     * 사용자 탈퇴 전, 그 사용자가 다른 게시글에 남긴 댓글 수만큼 게시글별 댓글 수를 한 번에 차감
+     */
+    @Modifying
+    @Query(value = "UPDATE \"article\" a SET comment_count = comment_count - " +
+                   "(SELECT COUNT(*) FROM comment c WHERE c.article_id = a.id AND c.user_id = :userId) " +
+                   "WHERE a.id IN (SELECT c.article_id FROM comment c WHERE c.user_id = :userId)",
+           nativeQuery = true)
+    int subtractCommentCountsOfUser(@Param("userId") Long userId);
+
+    // DB에 반영된 조회수만 조회 (엔티티를 읽지 않음)
+    @Query("SELECT a.viewCount FROM Article a WHERE a.id = :id")
+    Optional<Long> findViewCountById(@Param("id") Long id);
+
+    // 전체 게시글의 (id, version) 조회 (검색 색인 스냅샷과 DB 동기화용)
+    @Query("SELECT a.id, a.version FROM Article a")
+    List<Object[]> findAllIdsAndVersions();
+
+    /**
+     * 키셋 페이지 조회: after 이후의 게시글을 id 오름차순으로 조회
+     * 작성자 이메일을 조인해 DTO로 바로 만들기 때문에 한 번의 쿼리(PK 인덱스 범위 스캔)로 끝난다
+     */
+    @Query("SELECT new com.blog.application.response.ArticleDTO(a.id, u.email, a.title, a.content, a.version, a.commentCount) " +
+           "FROM Article a JOIN a.user u WHERE a.id > :after ORDER BY a.id ASC")
+    List<ArticleDTO> findPageAfter(@Param("after") Long after, Pageable pageable);
+
+    /**
+     * 목록용 요약 조회: content 컬럼을 읽지 않는다
+     */
+    @Query("SELECT new com.blog.application.response.ArticleSummaryDTO(a.id, u.email, a.title, a.likeCount, a.commentCount) " +
+           "FROM Article a JOIN a.user u ORDER BY a.id ASC")
+    List<ArticleSummaryDTO> findAllSummaries();
+
+    /**
+     * 목록용 요약 키셋 페이지 조회
+     */
+    @Query("SELECT new com.blog.application.response.ArticleSummaryDTO(a.id, u.email, a.title, a.likeCount, a.commentCount) " +
+           "FROM Article a JOIN a.user u WHERE a.id > :after ORDER BY a.id ASC")
+    List<ArticleSummaryDTO> findSummaryPageAfter(@Param("after") Long after, Pageable pageable);
+
+    /**
+     * 여러 게시글 요약을 id 목록으로 한 번에 조회 (순서는 보장하지 않음)
+     */
+    @Query("SELECT new com.blog.application.response.ArticleSummaryDTO(a.id, u.email, a.title, a.likeCount, a.commentCount) " +
+           "FROM Article a JOIN a.user u WHERE a.id IN :ids")
+    List<ArticleSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 작성자별 게시글 요약 키셋 페이지 조회 (id 내림차순, before보다 작은 id부터)
+     * idx_article_user_id_id(user_id, id) 인덱스 범위 스캔으로 처리된다
+     */
+    @Query("SELECT new com.blog.application.response.ArticleSummaryDTO(a.id, u.email, a.title, a.likeCount, a.commentCount) " +
+           "FROM Article a JOIN a.user u WHERE u.id = :userId AND a.id < :before ORDER BY a.id DESC")
+    List<ArticleSummaryDTO> findSummaryPageByUserIdBefore(@Param("userId") Long userId,
+                                                          @Param("before") Long before,
+                                                          Pageable pageable);
+
+    /**
+     * 전체 게시글 스트리밍 조회 (내보내기용)
+     * DTO 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않고, fetch size 단위로 커서를 읽는다
+     * 반드시 트랜잭션 안에서 사용하고 다 쓰면 close 해야 한다
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.blog.application.response.ArticleDTO(a.id, u.email, a.title, a.content, a.version, a.commentCount) " +
+           "FROM Article a JOIN a.user u ORDER BY a.id ASC")
+    Stream<ArticleDTO> streamAll();
 }
 
 //ArticleRepository는 Article 엔티티에 대한 CRUD 작업을 지원하며,
 //사용자 ID로 게시글을 조회하는 커스텀 메서드를 제공한다
 
-
@@ -3,7 +3,13 @@ package com.blog.application.repository.jpa;
 import com.blog.application.entity.Article;
 import com.blog.application.entity.Comment;
 import com.blog.application.entity.User;
+import com.blog.application.response.CommentDTO;
+import com.blog.application.response.CommentNodeDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,14 +17,62 @@ import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    // 특정 게시글에 속하는 모든 댓글 삭제
-    void deleteAllByArticleId(Long articleId);
+    // 특정 게시글에 속하는 모든 댓글 삭제 (댓글을 하나씩 읽어 지우지 않고 한 번의 DELETE로 처리)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.article.id = :articleId")
+    int deleteAllByArticleId(@Param("articleId") Long articleId);
 
     // 특정 사용자의 모든 댓글 삭제
-    void deleteAllByUserId(Long id);
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    // 댓글 단건 삭제, 실제로 삭제된 행 수를 반환
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :id")
+    int deleteCommentById(@Param("id") Long id);
+
+    /**
+     * 스레드(서브트리) 조회: path 접두사가 같은 댓글을 path 순(부모가 항상 자식보다 먼저)으로 한 번에 조회
+     * idx_comment_article_id_path(article_id, path) 인덱스 범위 스캔으로 처리된다
+     * @param pathPrefix 서브트리 루트의 path + '%'
+     * @param maxDepth 이 깊이까지만 조회
+     */
+    @Query("SELECT new com.blog.application.response.CommentNodeDTO(c.id, c.parentId, u.email, c.content, c.depth) " +
+           "FROM Comment c LEFT JOIN c.user u " +
+           "WHERE c.article.id = :articleId AND c.path LIKE :pathPrefix AND c.depth <= :maxDepth ORDER BY c.path ASC")
+    List<CommentNodeDTO> findSubtree(@Param("articleId") Long articleId,
+                                     @Param("pathPrefix") String pathPrefix,
+                                     @Param("maxDepth") int maxDepth);
+
+    // 서브트리(댓글과 그 아래 모든 답글) 삭제, 삭제된 행 수를 반환
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.article.id = :articleId AND c.path LIKE :pathPrefix")
+    int deleteSubtree(@Param("articleId") Long articleId, @Param("pathPrefix") String pathPrefix);
+
+    // 특정 사용자가 댓글을 남긴 게시글 id 목록
+    @Query("SELECT DISTINCT c.article.id FROM Comment c WHERE c.user.id = :userId")
+    List<Long> findArticleIdsByUserId(@Param("userId") Long userId);
 
     // 특정 게시글에 속하는 댓글 목록 조회
     List<Comment> findAllByArticleId(Long articleId);
+
+    /**
+     * 특정 게시글의 댓글 목록을 DTO로 조회 (id, 작성자 이메일, 내용만 읽음)
+     */
+    @Query("SELECT new com.blog.application.response.CommentDTO(c.id, u.email, c.content) " +
+           "FROM Comment c LEFT JOIN c.user u WHERE c.article.id = :articleId ORDER BY c.id ASC")
+    List<CommentDTO> findDTOsByArticleId(@Param("articleId") Long articleId);
+
+    /**
+     * 댓글 키셋 페이지 조회: after 이후의 댓글을 id 오름차순으로 조회
+     * idx_comment_article_id_id(article_id, id) 인덱스 범위 스캔으로 처리된다
+     */
+    @Query("SELECT new com.blog.application.response.CommentDTO(c.id, u.email, c.content) " +
+           "FROM Comment c LEFT JOIN c.user u WHERE c.article.id = :articleId AND c.id > :after ORDER BY c.id ASC")
+    List<CommentDTO> findPageByArticleIdAfter(@Param("articleId") Long articleId,
+                                              @Param("after") Long after,
+                                              Pageable pageable);
 }
 
 //CommentRepository는 댓글 관련 CRUD 작업과 함께,
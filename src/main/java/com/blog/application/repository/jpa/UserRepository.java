@@ -2,6 +2,8 @@ package com.blog.application.repository.jpa;
 
 import com.blog.application.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
@@ -9,6 +11,10 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     // 이메일로 사용자 조회 (회원가입, 로그인, 탈퇴 등에 활용)
     Optional<User> findByEmail(String email);
+
+    // 이메일로 사용자 id만 조회 (엔티티를 읽지 않음)
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
 }
 
 //UserRepository는 사용자 엔티티에 대한 CRUD 작업과 이메일을 이용한 사용자 조회 기능을 제공한다
@@ -0,0 +1,28 @@
+package com.blog.application.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class ArticleStatusRequestDTO {
+
+    @NotEmpty(message = "게시글 ID 목록은 필수 항목입니다.")
+    @Size(max = 100, message = "한 번에 최대 100개의 게시글만 조회할 수 있습니다.")
+    private List<@NotNull Long> articleIds;
+
+    public ArticleStatusRequestDTO() {}
+
+    public ArticleStatusRequestDTO(List<Long> articleIds) {
+        this.articleIds = articleIds;
+    }
+
+    public List<Long> getArticleIds() {
+        return articleIds;
+    }
+
+    public void setArticleIds(List<Long> articleIds) {
+        this.articleIds = articleIds;
+    }
+}
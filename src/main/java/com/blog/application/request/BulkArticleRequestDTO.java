@@ -0,0 +1,33 @@
+package com.blog.application.request;
+
+public class BulkArticleRequestDTO {
+
+    private String title;
+    private String content;
+
+    public BulkArticleRequestDTO() {}
+
+    public BulkArticleRequestDTO(String title, String content) {
+        this.title = title;
+        this.content = content;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+}
+
+//게시글 대량 등록 요청의 항목 하나를 나타내는 DTO 클래스
+//작성자는 인증된 사용자로 정해지므로 제목과 내용만 받는다
@@ -1,12 +1,15 @@
 package com.blog.application.response;
 
 import com.blog.application.entity.Article;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 public class ArticleDTO {
     private Long articleId;
     private String email;
     private String title;
     private String content;
+    private Long version;
+    private Long commentCount;
 
     public ArticleDTO() {
     }
@@ -18,6 +21,29 @@ public class ArticleDTO {
         this.email = article.getUser().getEmail();
         this.title = article.getTitle();
         this.content = article.getContent();
+        this.version = article.getVersion();
+        this.commentCount = article.getCommentCount();
+    }
+
+    // JPQL 생성자 프로젝션용: 작성자 이메일을 조인으로 함께 읽어 User 지연 로딩(N+1)을 피한다
+    public ArticleDTO(Long articleId, String email, String title, String content, Long version, Long commentCount) {
+        this.articleId = articleId;
+        this.email = email;
+        this.title = title;
+        this.content = content;
+        this.version = version;
+        this.commentCount = commentCount;
+    }
+
+    // 게시글 id와 버전, 댓글 수로 만든 강한(strong) ETag
+    // 내용이 바뀌면 버전이 올라가고, 댓글 수는 버전과 별개로 UPDATE 되므로 함께 넣어야 응답이 바뀔 때 값도 바뀐다
+    public static String eTagOf(Long articleId, Long version, Long commentCount) {
+        return "\"" + articleId + "-" + version + "-" + commentCount + "\"";
+    }
+
+    @JsonIgnore
+    public String getETag() {
+        return eTagOf(articleId, version, commentCount);
     }
 
     public Long getArticleId() {
@@ -51,9 +77,25 @@ public class ArticleDTO {
     public void setContent(String content) {
         this.content = content;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(Long commentCount) {
+        this.commentCount = commentCount;
+    }
 }
 
 //ArticleDTO는 클라이언트에 노출할 게시글 데이터를 정의한다
-//게시글 ID, 작성자 이메일, 제목, 내용을 포함하며 민감정보는 배제한다
+//게시글 ID, 작성자 이메일, 제목, 내용, 댓글 수를 포함하며 민감정보는 배제한다
 
 
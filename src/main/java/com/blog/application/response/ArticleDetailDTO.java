@@ -0,0 +1,96 @@
+package com.blog.application.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ArticleDetailDTO {
+    private ArticleDTO article;
+    private CursorPageDTO<CommentDTO> comments;
+    private Long viewCount;
+    private Long likeCount;
+    // 로그인하지 않았거나 조회에 실패하면 null
+    private Boolean liked;
+    private Long bookmarkCount;
+    private Boolean bookmarked;
+    // 시간 안에 조회하지 못해 비어 있는 항목 이름 (comments, viewCount, like, bookmark)
+    private List<String> failedParts = new ArrayList<>();
+
+    public ArticleDetailDTO() {
+    }
+
+    public ArticleDetailDTO(ArticleDTO article) {
+        this.article = article;
+    }
+
+    public ArticleDTO getArticle() {
+        return article;
+    }
+
+    public void setArticle(ArticleDTO article) {
+        this.article = article;
+    }
+
+    public CursorPageDTO<CommentDTO> getComments() {
+        return comments;
+    }
+
+    public void setComments(CursorPageDTO<CommentDTO> comments) {
+        this.comments = comments;
+    }
+
+    public Long getViewCount() {
+        return viewCount;
+    }
+
+    public void setViewCount(Long viewCount) {
+        this.viewCount = viewCount;
+    }
+
+    public Long getLikeCount() {
+        return likeCount;
+    }
+
+    public void setLikeCount(Long likeCount) {
+        this.likeCount = likeCount;
+    }
+
+    public Boolean getLiked() {
+        return liked;
+    }
+
+    public void setLiked(Boolean liked) {
+        this.liked = liked;
+    }
+
+    public Long getBookmarkCount() {
+        return bookmarkCount;
+    }
+
+    public void setBookmarkCount(Long bookmarkCount) {
+        this.bookmarkCount = bookmarkCount;
+    }
+
+    public Boolean getBookmarked() {
+        return bookmarked;
+    }
+
+    public void setBookmarked(Boolean bookmarked) {
+        this.bookmarked = bookmarked;
+    }
+
+    public List<String> getFailedParts() {
+        return failedParts;
+    }
+
+    public void setFailedParts(List<String> failedParts) {
+        this.failedParts = failedParts;
+    }
+
+    public void addFailedPart(String part) {
+        failedParts.add(part);
+    }
+}
+
+//ArticleDetailDTO는 게시글 상세 화면에 필요한 데이터를 한 번에 담는다
+//게시글 본문, 댓글 첫 페이지, 조회수, 좋아요/북마크 수와 사용자의 좋아요/북마크 여부를 포함한다
+//게시글 외의 항목은 실패하거나 시간 안에 끝나지 않으면 비워 두고 failedParts에 이름을 남긴다
@@ -0,0 +1,55 @@
+package com.blog.application.response;
+
+import java.util.List;
+
+public class ArticleSearchResultDTO {
+    private List<ArticleDTO> items;
+    private long totalHits;
+    private int page;
+    private int size;
+
+    public ArticleSearchResultDTO() {
+    }
+
+    public ArticleSearchResultDTO(List<ArticleDTO> items, long totalHits, int page, int size) {
+        this.items = items;
+        this.totalHits = totalHits;
+        this.page = page;
+        this.size = size;
+    }
+
+    public List<ArticleDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ArticleDTO> items) {
+        this.items = items;
+    }
+
+    public long getTotalHits() {
+        return totalHits;
+    }
+
+    public void setTotalHits(long totalHits) {
+        this.totalHits = totalHits;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
+
+//ArticleSearchResultDTO는 게시글 검색 결과를 정의한다
+//검색 점수 순으로 정렬된 게시글 목록과 전체 검색 결과 수, 페이지 정보를 포함한다
@@ -0,0 +1,52 @@
+package com.blog.application.response;
+
+public class ArticleStatusDTO {
+    private Long articleId;
+    private boolean liked;
+    private boolean bookmarked;
+    private Long likeCount;
+
+    public ArticleStatusDTO() {
+    }
+
+    // JPQL 생성자 프로젝션용: 좋아요/북마크 여부는 조회 후 채운다
+    public ArticleStatusDTO(Long articleId, Long likeCount) {
+        this.articleId = articleId;
+        this.likeCount = likeCount;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public void setArticleId(Long articleId) {
+        this.articleId = articleId;
+    }
+
+    public boolean isLiked() {
+        return liked;
+    }
+
+    public void setLiked(boolean liked) {
+        this.liked = liked;
+    }
+
+    public boolean isBookmarked() {
+        return bookmarked;
+    }
+
+    public void setBookmarked(boolean bookmarked) {
+        this.bookmarked = bookmarked;
+    }
+
+    public Long getLikeCount() {
+        return likeCount;
+    }
+
+    public void setLikeCount(Long likeCount) {
+        this.likeCount = likeCount;
+    }
+}
+
+//ArticleStatusDTO는 피드 화면에서 게시글마다 필요한 사용자별 상태를 정의한다
+//게시글 ID, 좋아요 여부, 북마크 여부, 좋아요 수를 포함한다
@@ -0,0 +1,64 @@
+package com.blog.application.response;
+
+public class ArticleSummaryDTO {
+    private Long articleId;
+    private String email;
+    private String title;
+    private Long likeCount;
+    private Long commentCount;
+
+    public ArticleSummaryDTO() {
+    }
+
+    // JPQL 생성자 프로젝션용: content(TEXT) 컬럼은 읽지 않는다
+    public ArticleSummaryDTO(Long articleId, String email, String title, Long likeCount, Long commentCount) {
+        this.articleId = articleId;
+        this.email = email;
+        this.title = title;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public void setArticleId(Long articleId) {
+        this.articleId = articleId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Long getLikeCount() {
+        return likeCount;
+    }
+
+    public void setLikeCount(Long likeCount) {
+        this.likeCount = likeCount;
+    }
+
+    public Long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(Long commentCount) {
+        this.commentCount = commentCount;
+    }
+}
+
+//ArticleSummaryDTO는 목록 화면용 게시글 요약 데이터를 정의한다
+//게시글 ID, 작성자 이메일, 제목, 좋아요 수, 댓글 수만 포함하고 본문은 제외한다
@@ -0,0 +1,91 @@
+package com.blog.application.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDateTime;
+
+public class BookmarkedArticleDTO {
+    // 키셋 커서용 (응답에는 포함하지 않음)
+    @JsonIgnore
+    private Long bookmarkId;
+    private Long articleId;
+    private String email;
+    private String title;
+    private Long likeCount;
+    private Long commentCount;
+    private LocalDateTime bookmarkedAt;
+
+    public BookmarkedArticleDTO() {
+    }
+
+    // JPQL 생성자 프로젝션용: 작성자 이메일을 조인으로 함께 읽고 content(TEXT) 컬럼은 읽지 않는다
+    public BookmarkedArticleDTO(Long bookmarkId, Long articleId, String email, String title,
+                                Long likeCount, Long commentCount, LocalDateTime bookmarkedAt) {
+        this.bookmarkId = bookmarkId;
+        this.articleId = articleId;
+        this.email = email;
+        this.title = title;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+        this.bookmarkedAt = bookmarkedAt;
+    }
+
+    public Long getBookmarkId() {
+        return bookmarkId;
+    }
+
+    public void setBookmarkId(Long bookmarkId) {
+        this.bookmarkId = bookmarkId;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public void setArticleId(Long articleId) {
+        this.articleId = articleId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Long getLikeCount() {
+        return likeCount;
+    }
+
+    public void setLikeCount(Long likeCount) {
+        this.likeCount = likeCount;
+    }
+
+    public Long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(Long commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public LocalDateTime getBookmarkedAt() {
+        return bookmarkedAt;
+    }
+
+    public void setBookmarkedAt(LocalDateTime bookmarkedAt) {
+        this.bookmarkedAt = bookmarkedAt;
+    }
+}
+
+//BookmarkedArticleDTO는 내 북마크 목록의 한 항목을 정의한다
+//게시글 요약(작성자 이메일, 제목, 좋아요/댓글 수)과 북마크한 시각을 포함하고 본문은 제외한다
@@ -0,0 +1,85 @@
+package com.blog.application.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkArticleResultDTO {
+    private int received;
+    private int inserted;
+    private List<Failure> failures = new ArrayList<>();
+
+    public BulkArticleResultDTO() {
+    }
+
+    public void addReceived() {
+        received++;
+    }
+
+    public void addInserted(int count) {
+        inserted += count;
+    }
+
+    public void addFailure(int index, String reason) {
+        failures.add(new Failure(index, reason));
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(int inserted) {
+        this.inserted = inserted;
+    }
+
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<Failure> failures) {
+        this.failures = failures;
+    }
+
+    /**
+     * 등록에 실패한 항목
+     * index는 요청 본문에서의 순서 (0부터)
+     */
+    public static class Failure {
+        private int index;
+        private String reason;
+
+        public Failure() {
+        }
+
+        public Failure(int index, String reason) {
+            this.index = index;
+            this.reason = reason;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        public void setReason(String reason) {
+            this.reason = reason;
+        }
+    }
+}
+
+//BulkArticleResultDTO는 게시글 대량 등록 결과를 정의한다
+//받은 항목 수, 등록된 게시글 수, 실패한 항목의 순서와 사유를 포함한다
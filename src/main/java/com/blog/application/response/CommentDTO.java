@@ -6,6 +6,9 @@ public class CommentDTO {
     private String content;
     // password 등 민감 정보는 포함하지 않음
 
+    public CommentDTO() {
+    }
+
     // 생성자: 댓글 ID, 작성자 이메일, 내용
     public CommentDTO(Long commentId, String email, String content) {
         this.commentId = commentId;
@@ -0,0 +1,79 @@
+package com.blog.application.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CommentNodeDTO {
+    private Long commentId;
+    private Long parentId;
+    private String email;
+    private String content;
+    private Integer depth;
+    private List<CommentNodeDTO> replies = new ArrayList<>();
+
+    public CommentNodeDTO() {
+    }
+
+    // JPQL 생성자 프로젝션용: 스레드 조회 결과(path 순)를 그대로 받아 메모리에서 트리로 조립한다
+    public CommentNodeDTO(Long commentId, Long parentId, String email, String content, Integer depth) {
+        this.commentId = commentId;
+        this.parentId = parentId;
+        this.email = email;
+        this.content = content;
+        this.depth = depth;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public void setCommentId(Long commentId) {
+        this.commentId = commentId;
+    }
+
+    @JsonIgnore
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public Integer getDepth() {
+        return depth;
+    }
+
+    public void setDepth(Integer depth) {
+        this.depth = depth;
+    }
+
+    public List<CommentNodeDTO> getReplies() {
+        return replies;
+    }
+
+    public void setReplies(List<CommentNodeDTO> replies) {
+        this.replies = replies;
+    }
+}
+
+//CommentNodeDTO는 댓글 스레드의 노드 하나를 정의한다
+//댓글 ID, 작성자 이메일, 내용, 깊이와 함께 답글 목록(replies)을 중첩해서 포함한다
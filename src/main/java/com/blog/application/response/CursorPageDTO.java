@@ -0,0 +1,40 @@
+package com.blog.application.response;
+
+import java.util.List;
+
+public class CursorPageDTO<T> {
+    private List<T> items;
+    // 다음 페이지 조회 시 그대로 넘겨주는 커서 토큰 (마지막 페이지면 null)
+    private String nextCursor;
+
+    public CursorPageDTO() {
+    }
+
+    public CursorPageDTO(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
+
+//CursorPageDTO는 키셋(커서) 기반 페이지네이션 응답을 정의한다
+//OFFSET 없이 마지막으로 받은 키 이후부터 조회하므로 테이블이 커져도 조회 비용이 일정하다
@@ -4,6 +4,7 @@ import com.blog.application.common.jwt.JwtTokenProvider;
 import com.blog.application.entity.User;
 import com.blog.application.repository.jpa.UserRepository;
 import com.blog.application.service.TokenBlacklistService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import lombok.RequiredArgsConstructor;
@@ -38,9 +39,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = jwtTokenProvider.extractToken(authHeader);
             
-            // 토큰 유효성 검사 및 블랙리스트 확인
-            if (jwtTokenProvider.validateToken(token) && !tokenBlacklistService.isTokenBlacklisted(token)) {
-                String email = jwtTokenProvider.getEmailFromToken(token);
+            // 토큰은 한 번만 파싱해 검증하고(캐시 우선), 블랙리스트는 매 요청 확인
+            Optional<Claims> claims = jwtTokenProvider.parseVerifiedClaims(token);
+            if (claims.isPresent() && !tokenBlacklistService.isTokenBlacklisted(token)) {
+                String email = claims.get().getSubject();
                 Optional<User> userOptional = userRepository.findByEmail(email);
                 
                 if (userOptional.isPresent()) {
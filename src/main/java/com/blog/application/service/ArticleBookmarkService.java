@@ -1,18 +1,27 @@
 package com.blog.application.service;
 
 import com.blog.application.entity.Article;
-import com.blog.application.entity.ArticleBookmark;
 import com.blog.application.entity.User;
+import com.blog.application.repository.jdbc.ReactionWriteRepository;
+import com.blog.application.repository.jdbc.ReactionWriteRepository.ReactionTable;
+import com.blog.application.repository.jdbc.ReactionWriteRepository.ToggleResult;
 import com.blog.application.repository.jpa.ArticleBookmarkRepository;
 import com.blog.application.repository.jpa.ArticleRepository;
 import com.blog.application.repository.jpa.UserRepository;
+import com.blog.application.response.BookmarkedArticleDTO;
+import com.blog.application.response.CursorPageDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -22,133 +31,105 @@ public class ArticleBookmarkService {
     private final ArticleBookmarkRepository articleBookmarkRepository;
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
-
-    private static final int MAX_RETRY_COUNT = 3;
+    private final ReactionSetCache reactionSetCache;
+    private final UserIdCache userIdCache;
+    private final ReactionWriteRepository reactionWriteRepository;
 
     /**
-     * 게시글 북마크 토글 (idempotent)
+     * 게시글 북마크 토글
+     * 엔티티를 읽지 않고 id만으로 조건부 DELETE, 없으면 "없을 때만 추가"를 실행한다 (문장 한 번 또는 두 번)
+     * 북마크 행을 실제로 추가/삭제한 경우에만 bookmark_count를 UPDATE 문 한 번으로 증감한다 (읽고-수정-저장 경합 없음)
      * @param articleId 게시글 ID
      * @param userEmail 사용자 이메일
      * @return true: 북마크 추가, false: 북마크 취소
      */
     @Transactional
     public boolean toggleBookmark(Long articleId, String userEmail) {
-        User user = findUserByEmail(userEmail);
-        Article article = findArticleById(articleId);
-
-        // 기존 북마크 확인
-        boolean alreadyBookmarked = articleBookmarkRepository.existsByUserAndArticle(user, article);
-        
-        if (alreadyBookmarked) {
-            return removeBookmarkWithRetry(user, article);
-        } else {
-            return addBookmarkWithRetry(user, article);
-        }
-    }
-
-    /**
-     * 북마크 추가 (낙관적 재시도)
-     */
-    private boolean addBookmarkWithRetry(User user, Article article) {
-        for (int attempt = 1; attempt <= MAX_RETRY_COUNT; attempt++) {
-            try {
-                return addBookmark(user, article);
-            } catch (DataIntegrityViolationException e) {
-                // UNIQUE 제약 조건 위반 - 이미 북마크가 존재함
-                log.debug("Bookmark already exists for user {} and article {} (attempt {})", 
-                         user.getEmail(), article.getId(), attempt);
-                
-                if (attempt == MAX_RETRY_COUNT) {
-                    // 마지막 시도에서도 실패하면 idempotent하게 성공으로 처리
-                    log.info("Bookmark already exists after {} attempts - treating as success", attempt);
-                    return true;
-                }
-                
-                // 잠시 대기 후 재시도
-                try {
-                    Thread.sleep(10 * attempt); // 10ms, 20ms, 30ms
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Interrupted during retry", ie);
-                }
+        // JDBC로 직접 쓰기 전에 같은 트랜잭션에서 아직 반영되지 않은 JPA 변경을 반영
+        articleBookmarkRepository.flush();
+        Long userId = findUserIdByEmail(userEmail);
+        ToggleResult result = reactionWriteRepository.toggle(ReactionTable.BOOKMARK, userId, articleId);
+
+        if (result == ToggleResult.UNCHANGED) {
+            // 바뀐 행이 없는 드문 경우에만 원인을 확인한다
+            if (!articleRepository.existsById(articleId)) {
+                throw new IllegalArgumentException("게시글을 찾을 수 없습니다: " + articleId);
+            }
+            if (!userRepository.existsById(userId)) {
+                // 캐시된 id의 사용자가 없으면 (탈퇴 후 같은 이메일로 재가입 등) 다시 조회해 한 번 더 시도
+                userIdCache.evict(userEmail);
+                userId = findUserIdByEmail(userEmail);
+                result = reactionWriteRepository.toggle(ReactionTable.BOOKMARK, userId, articleId);
             }
         }
-        return true; // 이론적으로 도달하지 않음
-    }
 
-    /**
-     * 북마크 제거 (낙관적 재시도)
-     */
-    private boolean removeBookmarkWithRetry(User user, Article article) {
-        for (int attempt = 1; attempt <= MAX_RETRY_COUNT; attempt++) {
-            try {
-                return removeBookmark(user, article);
-            } catch (Exception e) {
-                log.debug("Error removing bookmark for user {} and article {} (attempt {})", 
-                         user.getEmail(), article.getId(), attempt, e);
-                
-                if (attempt == MAX_RETRY_COUNT) {
-                    // 마지막 시도에서도 실패하면 idempotent하게 성공으로 처리
-                    log.info("Failed to remove bookmark after {} attempts - treating as success", attempt);
-                    return false;
-                }
-                
-                // 잠시 대기 후 재시도
-                try {
-                    Thread.sleep(10 * attempt);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Interrupted during retry", ie);
-                }
+        switch (result) {
+            case ADDED -> {
+                articleRepository.adjustBookmarkCount(articleId, 1);
+                reactionSetCache.update(ReactionSetCache.Reaction.BOOKMARK, articleId, userEmail, true);
+                log.info("Bookmark added: user={}, article={}", userEmail, articleId);
+            }
+            case REMOVED -> {
+                articleRepository.adjustBookmarkCount(articleId, -1);
+                reactionSetCache.update(ReactionSetCache.Reaction.BOOKMARK, articleId, userEmail, false);
+                log.info("Bookmark removed: user={}, article={}", userEmail, articleId);
             }
+            // 같은 북마크가 동시에 추가됨: 이미 북마크 상태이므로 카운트는 그 요청이 올린다 (idempotent)
+            case UNCHANGED -> log.debug("Bookmark already added concurrently: user={}, article={}", userEmail, articleId);
         }
-        return false; // 이론적으로 도달하지 않음
+        return result != ToggleResult.REMOVED;
     }
 
     /**
-     * 북마크 추가 로직
+     * 북마크 상태 조회 (Redis 집합 우선)
      */
-    private boolean addBookmark(User user, Article article) {
-        ArticleBookmark bookmark = new ArticleBookmark(user, article);
-        articleBookmarkRepository.save(bookmark);
-        
-        log.info("Bookmark added: user={}, article={}", user.getEmail(), article.getId());
-        return true;
+    public boolean isBookmarked(Long articleId, String userEmail) {
+        return reactionSetCache.isMember(ReactionSetCache.Reaction.BOOKMARK, articleId, userEmail,
+                        () -> articleRepository.existsById(articleId)
+                                ? Optional.of(articleBookmarkRepository.findUserEmailsByArticleId(articleId))
+                                : Optional.empty())
+                .orElseGet(() -> isBookmarkedInDb(articleId, userEmail));
     }
 
     /**
-     * 북마크 제거 로직
+     * 북마크 여부와 북마크 수를 함께 조회
+     * 여부는 Redis 집합 -> DB 순으로 확인하고, 수는 다른 조회 API와 같도록 항상 bookmark_count로 읽는다
      */
-    private boolean removeBookmark(User user, Article article) {
-        int deletedCount = articleBookmarkRepository.deleteByUserAndArticle(user, article);
-        
-        if (deletedCount > 0) {
-            log.info("Bookmark removed: user={}, article={}", user.getEmail(), article.getId());
-        } else {
-            // 삭제할 북마크가 없음 (idempotent)
-            log.debug("No bookmark to remove for user={}, article={}", user.getEmail(), article.getId());
-        }
-        
-        return false;
+    public ReactionSetCache.ReactionStatus getBookmarkStatus(Long articleId, String userEmail) {
+        boolean bookmarked = isBookmarked(articleId, userEmail);
+        return new ReactionSetCache.ReactionStatus(bookmarked, getBookmarkCount(articleId));
     }
 
-    /**
-     * 북마크 상태 조회
-     */
-    @Transactional(readOnly = true)
-    public boolean isBookmarked(Long articleId, String userEmail) {
+    private boolean isBookmarkedInDb(Long articleId, String userEmail) {
         User user = findUserByEmail(userEmail);
         Article article = findArticleById(articleId);
         return articleBookmarkRepository.existsByUserAndArticle(user, article);
     }
 
     /**
-     * 사용자의 북마크 목록 조회
+     * 내 북마크 목록 커서 페이지 조회 (최신순)
+     * 작성자 이메일까지 한 번의 조인 쿼리로 읽고, 가득 찬 페이지면 마지막 항목의 (북마크 시각, id)를 다음 커서로 반환한다
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
      */
     @Transactional(readOnly = true)
-    public List<Article> getBookmarkedArticles(String userEmail) {
-        User user = findUserByEmail(userEmail);
-        return articleBookmarkRepository.findBookmarkedArticlesByUser(user);
+    public CursorPageDTO<BookmarkedArticleDTO> getBookmarks(String userEmail, String cursor, Integer limit) {
+        Long userId = findUserIdByEmail(userEmail);
+        int size = ArticleService.normalizePageSize(limit);
+        PageRequest page = PageRequest.of(0, size);
+
+        List<BookmarkedArticleDTO> bookmarks;
+        if (cursor == null || cursor.isBlank()) {
+            bookmarks = articleBookmarkRepository.findPageByUserId(userId, page);
+        } else {
+            BookmarkCursor after = BookmarkCursor.decode(cursor);
+            bookmarks = articleBookmarkRepository.findPageByUserIdBefore(userId, after.createdAt(), after.id(), page);
+        }
+        String nextCursor = null;
+        if (bookmarks.size() == size) {
+            BookmarkedArticleDTO last = bookmarks.get(bookmarks.size() - 1);
+            nextCursor = new BookmarkCursor(last.getBookmarkedAt(), last.getBookmarkId()).encode();
+        }
+        return new CursorPageDTO<>(bookmarks, nextCursor);
     }
 
     /**
@@ -156,8 +137,14 @@ public class ArticleBookmarkService {
      */
     @Transactional(readOnly = true)
     public long getBookmarkCount(Long articleId) {
-        Article article = findArticleById(articleId);
-        return articleBookmarkRepository.countByArticle(article);
+        // 영속성 컨텍스트의 엔티티 값이 아닌 DB의 현재 값을 읽는다 (UPDATE 문으로 증감하므로)
+        return articleRepository.findBookmarkCountById(articleId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다: " + articleId));
+    }
+
+    private Long findUserIdByEmail(String email) {
+        return userIdCache.getId(email)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email));
     }
 
     private User findUserByEmail(String email) {
@@ -169,4 +156,26 @@ public class ArticleBookmarkService {
         return articleRepository.findById(articleId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다: " + articleId));
     }
+
+    /**
+     * 내 북마크 목록 커서: (북마크 시각, 북마크 id)를 "시각|id" 문자열로 만들어 URL-safe Base64로 감싼다
+     */
+    record BookmarkCursor(LocalDateTime createdAt, Long id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static BookmarkCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new BookmarkCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+    }
 }
\ No newline at end of file
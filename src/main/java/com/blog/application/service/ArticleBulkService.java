@@ -0,0 +1,169 @@
+package com.blog.application.service;
+
+import com.blog.application.entity.Article;
+import com.blog.application.entity.User;
+import com.blog.application.repository.jpa.UserRepository;
+import com.blog.application.request.BulkArticleRequestDTO;
+import com.blog.application.response.BulkArticleResultDTO;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+public class ArticleBulkService {
+
+    // "article".title 컬럼 길이 (VARCHAR(500))
+    private static final int TITLE_MAX_LENGTH = 500;
+
+    private final UserRepository userRepository;
+    private final ArticleSearchService articleSearchService;
+    private final LikerIndexService likerIndexService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader itemReader;
+    private final int batchSize;
+
+    public ArticleBulkService(UserRepository userRepository,
+                              ArticleSearchService articleSearchService,
+                              LikerIndexService likerIndexService,
+                              EntityManager entityManager,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              @Value("${article.bulk.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.articleSearchService = articleSearchService;
+        this.likerIndexService = likerIndexService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.itemReader = objectMapper.readerFor(BulkArticleRequestDTO.class);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 게시글 대량 등록
+     * 본문은 JSON 배열 또는 NDJSON(한 줄에 게시글 하나)이며, 전체를 메모리에 올리지 않고 읽으면서 batchSize 단위로 저장한다
+     * 잘못된 항목은 실패 목록에 기록하고 나머지 항목은 계속 등록한다
+     * @param body 요청 본문
+     * @param userEmail 작성자(인증된 사용자) 이메일
+     */
+    public BulkArticleResultDTO ingest(InputStream body, String userEmail) throws IOException {
+        Long authorId = userRepository.findByEmail(userEmail)
+                .map(User::getId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userEmail));
+
+        BulkArticleResultDTO result = new BulkArticleResultDTO();
+        List<PendingArticle> batch = new ArrayList<>(batchSize);
+        int index = 0;
+        try (MappingIterator<BulkArticleRequestDTO> items = itemReader.readValues(body)) {
+            while (true) {
+                BulkArticleRequestDTO item;
+                try {
+                    if (!items.hasNextValue()) {
+                        break;
+                    }
+                    item = items.nextValue();
+                } catch (JsonMappingException e) {
+                    // 항목 형식만 잘못된 경우 다음 항목부터 계속 읽을 수 있다
+                    result.addReceived();
+                    result.addFailure(index++, "항목 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+                    continue;
+                } catch (IOException e) {
+                    // JSON 문법 오류는 이후 위치를 알 수 없으므로 여기서 중단하고 앞서 읽은 항목만 저장한다
+                    result.addFailure(index, "JSON 파싱 실패, 이후 항목은 처리하지 않았습니다: " + e.getMessage());
+                    break;
+                }
+
+                result.addReceived();
+                String invalidReason = validate(item);
+                if (invalidReason != null) {
+                    result.addFailure(index++, invalidReason);
+                    continue;
+                }
+                batch.add(new PendingArticle(index++, item));
+                if (batch.size() >= batchSize) {
+                    insertBatch(batch, authorId, result);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertBatch(batch, authorId, result);
+        }
+
+        log.info("Bulk article ingest by {}: received={}, inserted={}, failed={}",
+                userEmail, result.getReceived(), result.getInserted(), result.getFailures().size());
+        return result;
+    }
+
+    // 저장된 게시글을 검색 색인과 좋아요 색인에 등록
+    private void registerSaved(Article article) {
+        articleSearchService.index(article);
+        likerIndexService.addArticle(article.getId());
+    }
+
+    // 배치 하나를 한 트랜잭션으로 저장, 실패하면 어떤 항목이 문제인지 알 수 있도록 건별로 다시 저장한다
+    private void insertBatch(List<PendingArticle> batch, Long authorId, BulkArticleResultDTO result) {
+        try {
+            List<Article> saved = persistAll(batch, authorId);
+            saved.forEach(this::registerSaved);
+            result.addInserted(saved.size());
+        } catch (RuntimeException batchFailure) {
+            log.warn("Bulk insert batch of {} failed - retrying one by one", batch.size(), batchFailure);
+            for (PendingArticle pending : batch) {
+                try {
+                    persistAll(List.of(pending), authorId).forEach(this::registerSaved);
+                    result.addInserted(1);
+                } catch (RuntimeException e) {
+                    result.addFailure(pending.index(), "저장 실패: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private List<Article> persistAll(List<PendingArticle> batch, Long authorId) {
+        return transactionTemplate.execute(status -> {
+            // 작성자는 프록시 참조만 사용해 항목마다 사용자 조회가 일어나지 않게 한다
+            User author = entityManager.getReference(User.class, authorId);
+            List<Article> articles = new ArrayList<>(batch.size());
+            for (PendingArticle pending : batch) {
+                Article article = new Article(pending.item().getTitle(), pending.item().getContent(), author);
+                entityManager.persist(article);
+                articles.add(article);
+            }
+            // hibernate.jdbc.batch_size 단위로 묶어 insert한 뒤 영속성 컨텍스트를 비워 메모리 사용을 일정하게 유지
+            entityManager.flush();
+            entityManager.clear();
+            return articles;
+        });
+    }
+
+    private static String validate(BulkArticleRequestDTO item) {
+        if (item == null || item.getTitle() == null || item.getTitle().trim().isEmpty() ||
+                item.getContent() == null || item.getContent().trim().isEmpty()) {
+            return "제목 또는 내용이 비어있습니다.";
+        }
+        if (item.getTitle().length() > TITLE_MAX_LENGTH) {
+            return "제목은 " + TITLE_MAX_LENGTH + "자를 넘을 수 없습니다.";
+        }
+        return null;
+    }
+
+    private record PendingArticle(int index, BulkArticleRequestDTO item) {
+    }
+}
+
+//게시글 대량 등록 서비스
+//요청 본문을 스트리밍으로 읽어 배치 단위 트랜잭션과 JDBC 배치 insert로 저장하고, 항목별 실패를 모아 돌려준다
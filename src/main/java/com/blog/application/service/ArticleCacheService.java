@@ -0,0 +1,135 @@
+package com.blog.application.service;
+
+import com.blog.application.response.ArticleDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+public class ArticleCacheService {
+
+    private static final String CACHE_NAME = "article.detail";
+    private static final String RESPONSE_CACHE_NAME = "article.response";
+    // 이보다 작은 응답은 gzip 이득이 거의 없어 압축본을 만들지 않는다
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    private final Cache<Long, ArticleDTO> articleCache;
+    // 직렬화된 JSON과 gzip 압축본을 함께 보관하는 응답 캐시 (바이트 크기 기준으로 제한)
+    private final Cache<Long, EncodedArticle> responseCache;
+    private final ObjectMapper objectMapper;
+
+    public ArticleCacheService(MeterRegistry meterRegistry,
+                               ObjectMapper objectMapper,
+                               @Value("${article.cache.max-size:10000}") long maxSize,
+                               @Value("${article.cache.ttl-seconds:300}") long ttlSeconds,
+                               @Value("${article.cache.response-max-bytes:67108864}") long responseMaxBytes) {
+        this.objectMapper = objectMapper;
+        this.articleCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.responseCache = Caffeine.newBuilder()
+                .maximumWeight(responseMaxBytes)
+                .weigher((Long id, EncodedArticle encoded) -> encoded.sizeInBytes())
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        // cache.gets(hit/miss), cache.evictions 등을 Micrometer로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, articleCache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, responseCache, RESPONSE_CACHE_NAME);
+    }
+
+    /**
+     * 캐시 우선 조회, 없으면 loader로 읽어 캐시에 저장 (존재하지 않는 게시글은 캐시하지 않음)
+     */
+    public Optional<ArticleDTO> getArticle(Long id, Function<Long, Optional<ArticleDTO>> loader) {
+        return Optional.ofNullable(articleCache.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    /**
+     * 미리 직렬화/압축해 둔 게시글 응답 조회
+     * 캐시 적중 시 Jackson 직렬화와 gzip 압축 없이 바이트를 그대로 내려보낼 수 있다
+     */
+    public Optional<EncodedArticle> getEncodedArticle(Long id, Function<Long, Optional<ArticleDTO>> loader) {
+        return Optional.ofNullable(responseCache.get(id,
+                key -> getArticle(key, loader).map(this::encode).orElse(null)));
+    }
+
+    /**
+     * 게시글 캐시 무효화 (DTO 캐시와 응답 캐시 모두)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 비워서, 커밋 전에 다시 읽힌 이전 값이 남지 않게 한다
+     */
+    public void evict(Long id) {
+        invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(id);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        articleCache.invalidateAll();
+        responseCache.invalidateAll();
+    }
+
+    private void invalidate(Long id) {
+        articleCache.invalidate(id);
+        responseCache.invalidate(id);
+    }
+
+    private EncodedArticle encode(ArticleDTO article) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(article);
+            byte[] gzip = json.length >= GZIP_MIN_BYTES ? gzip(json) : null;
+            return new EncodedArticle(article.getETag(), json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 응답 직렬화에 실패했습니다: " + article.getArticleId(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] source) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(source.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 게시글 한 건(특정 버전)의 인코딩된 응답
+     * @param eTag 게시글 버전 기반 ETag
+     * @param json 직렬화된 JSON 바이트
+     * @param gzip gzip 압축본 (작은 응답이면 null)
+     */
+    public record EncodedArticle(String eTag, byte[] json, byte[] gzip) {
+        int sizeInBytes() {
+            return json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
+
+//게시글 단건 조회용 로컬(in-process) 캐시
+//크기/TTL 기반으로 만료되며 게시글 수정, 삭제, 좋아요 수 변경 시 무효화된다
+//직렬화된 JSON과 gzip 압축본도 함께 캐시해 반복 조회 시 CPU 사용을 줄인다
@@ -0,0 +1,176 @@
+package com.blog.application.service;
+
+import com.blog.application.response.ArticleDTO;
+import com.blog.application.response.ArticleDetailDTO;
+import com.blog.application.response.CommentDTO;
+import com.blog.application.response.CursorPageDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class ArticleDetailService {
+
+    private final ArticleService articleService;
+    private final CommentService commentService;
+    private final ViewCountService viewCountService;
+    private final ArticleLikeService articleLikeService;
+    private final ArticleBookmarkService articleBookmarkService;
+    // 하위 조회마다 가상 스레드 하나 (대부분 DB/Redis 대기라 플랫폼 스레드를 점유하지 않는다)
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Duration partTimeout;
+    // 모든 요청을 통틀어 동시에 실행되는 하위 조회 수 제한 (요청마다 다섯 개씩 커넥션을 잡아 풀이 바닥나지 않게)
+    private final Semaphore partPermits;
+
+    public ArticleDetailService(ArticleService articleService,
+                                CommentService commentService,
+                                ViewCountService viewCountService,
+                                ArticleLikeService articleLikeService,
+                                ArticleBookmarkService articleBookmarkService,
+                                @Value("${article.detail.part-timeout:1s}") Duration partTimeout,
+                                @Value("${article.detail.max-concurrent-parts:8}") int maxConcurrentParts) {
+        this.articleService = articleService;
+        this.commentService = commentService;
+        this.viewCountService = viewCountService;
+        this.articleLikeService = articleLikeService;
+        this.articleBookmarkService = articleBookmarkService;
+        this.partTimeout = partTimeout;
+        this.partPermits = new Semaphore(Math.max(1, maxConcurrentParts), true);
+    }
+
+    /**
+     * 게시글 상세 화면 데이터를 하위 조회별 가상 스레드에서 동시에 읽어 합친다 (응답 시간 = 가장 느린 조회)
+     * 게시글 본문은 필수라 마감 시간 없이 기다리고 실패하면 예외를 그대로 던진다
+     * 나머지는 partTimeout 안에 끝나지 않거나 실패하면 비워 둔다
+     * 요청이 끝날 때 아직 시작하지 않은 하위 조회는 취소한다
+     * @param userEmail 로그인한 사용자 이메일 (없으면 좋아요/북마크 여부는 null)
+     * @return 게시글이 없으면 empty
+     */
+    public Optional<ArticleDetailDTO> getDetail(Long articleId, String userEmail) {
+        Callable<ReactionSetCache.ReactionStatus> likeLookup = userEmail == null
+                ? () -> new ReactionSetCache.ReactionStatus(false, articleLikeService.getLikeCount(articleId))
+                : () -> articleLikeService.getLikeStatus(articleId, userEmail);
+        Callable<ReactionSetCache.ReactionStatus> bookmarkLookup = userEmail == null
+                ? () -> new ReactionSetCache.ReactionStatus(false, articleBookmarkService.getBookmarkCount(articleId))
+                : () -> articleBookmarkService.getBookmarkStatus(articleId, userEmail);
+
+        long deadline = System.nanoTime() + partTimeout.toNanos();
+        Future<Optional<ArticleDTO>> article = submitRequired(() -> articleService.getArticleDTO(articleId));
+        Future<CursorPageDTO<CommentDTO>> comments = submitOptional(() -> commentService.getCommentsAfter(articleId, null, null), deadline);
+        Future<Long> viewCount = submitOptional(() -> viewCountService.getViewCount(articleId), deadline);
+        Future<ReactionSetCache.ReactionStatus> like = submitOptional(likeLookup, deadline);
+        Future<ReactionSetCache.ReactionStatus> bookmark = submitOptional(bookmarkLookup, deadline);
+        List<Future<?>> parts = List.of(article, comments, viewCount, like, bookmark);
+
+        try {
+            Optional<ArticleDTO> found = awaitRequired(article);
+            if (found.isEmpty()) {
+                return Optional.empty();
+            }
+            viewCountService.increment(articleId);
+
+            ArticleDetailDTO detail = new ArticleDetailDTO(found.get());
+            awaitOptional(comments, "comments", deadline, detail, detail::setComments);
+            awaitOptional(viewCount, "viewCount", deadline, detail, detail::setViewCount);
+            awaitOptional(like, "like", deadline, detail, status -> {
+                detail.setLikeCount(status.count());
+                detail.setLiked(userEmail == null ? null : status.member());
+            });
+            awaitOptional(bookmark, "bookmark", deadline, detail, status -> {
+                detail.setBookmarkCount(status.count());
+                detail.setBookmarked(userEmail == null ? null : status.member());
+            });
+            return Optional.of(detail);
+        } finally {
+            // 게시글이 없거나 실패해서 일찍 끝나도 아직 시작하지 않은 하위 조회는 실행하지 않는다
+            // 실행 중인 조회는 인터럽트하지 않는다 (JDBC 호출 중 인터럽트는 풀의 커넥션을 망가뜨릴 수 있어 쿼리 타임아웃에 맡긴다)
+            parts.forEach(part -> part.cancel(false));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 필수 항목: 실행 허가를 얻을 때까지 기다린다
+    private <T> Future<T> submitRequired(Callable<T> task) {
+        return executor.submit(() -> {
+            partPermits.acquire();
+            return runAndRelease(task);
+        });
+    }
+
+    // 선택 항목: 마감 시간 안에 실행 허가를 얻지 못하면 시간 초과로 실패 처리된다
+    private <T> Future<T> submitOptional(Callable<T> task, long deadline) {
+        return executor.submit(() -> {
+            if (!partPermits.tryAcquire(remaining(deadline), TimeUnit.NANOSECONDS)) {
+                throw new TimeoutException("동시 조회 한도로 실행하지 못했습니다.");
+            }
+            return runAndRelease(task);
+        });
+    }
+
+    private <T> T runAndRelease(Callable<T> task) throws Exception {
+        try {
+            return task.call();
+        } finally {
+            partPermits.release();
+        }
+    }
+
+    // 필수 항목: 선택 항목의 마감 시간을 적용하지 않는다 (느린 조회는 DB 쿼리 타임아웃에 맡긴다)
+    private <T> T awaitRequired(Future<T> part) {
+        try {
+            return part.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("게시글 조회에 실패했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게시글 조회가 중단되었습니다.", e);
+        }
+    }
+
+    // 선택 항목: 실패/시간 초과 시 값을 비워 두고 failedParts에 이름을 남긴다
+    private <T> void awaitOptional(Future<T> part, String name, long deadline,
+                                   ArticleDetailDTO detail, Consumer<T> setter) {
+        try {
+            setter.accept(part.get(remaining(deadline), TimeUnit.NANOSECONDS));
+        } catch (ExecutionException e) {
+            log.warn("Article detail part '{}' failed for article {}", name, detail.getArticle().getArticleId(), e.getCause());
+            detail.addFailedPart(name);
+        } catch (TimeoutException e) {
+            log.warn("Article detail part '{}' timed out after {}", name, partTimeout);
+            detail.addFailedPart(name);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            detail.addFailedPart(name);
+        }
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+}
+
+//게시글 상세 화면용 조회 묶음 (게시글, 댓글, 조회수, 좋아요/북마크 상태)
+//Java 21의 StructuredTaskScope는 아직 preview라 가상 스레드 executor와 Future로 같은 구조(동시 실행, 공통 마감 시간, 종료 시 일괄 취소)를 만든다
+//하위 조회는 공용 세마포어로 동시 실행 수를 제한해 상세 조회가 몰려도 커넥션 풀을 다 쓰지 않는다
@@ -1,16 +1,29 @@
 package com.blog.application.service;
 
+import com.blog.application.common.bitmap.LikerBitmapIndex;
 import com.blog.application.entity.Article;
-import com.blog.application.entity.ArticleLike;
 import com.blog.application.entity.User;
+import com.blog.application.repository.jdbc.ReactionWriteRepository;
+import com.blog.application.repository.jdbc.ReactionWriteRepository.ReactionTable;
+import com.blog.application.repository.jdbc.ReactionWriteRepository.ToggleResult;
 import com.blog.application.repository.jpa.ArticleLikeRepository;
 import com.blog.application.repository.jpa.ArticleRepository;
 import com.blog.application.repository.jpa.UserRepository;
+import com.blog.application.response.ArticleSummaryDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -20,134 +33,109 @@ public class ArticleLikeService {
     private final ArticleLikeRepository articleLikeRepository;
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
-
-    private static final int MAX_RETRY_COUNT = 3;
+    private final ArticleCacheService articleCacheService;
+    private final TrendingService trendingService;
+    private final LikeCountBuffer likeCountBuffer;
+    private final ReactionSetCache reactionSetCache;
+    private final LikerIndexService likerIndexService;
+    private final UserIdCache userIdCache;
+    private final ReactionWriteRepository reactionWriteRepository;
 
     /**
-     * 게시글 좋아요 토글 (idempotent)
+     * 게시글 좋아요 토글
+     * 엔티티를 읽지 않고 id만으로 조건부 DELETE, 없으면 "없을 때만 추가"를 실행한다 (문장 한 번 또는 두 번)
+     * 좋아요 행을 실제로 추가/삭제한 경우에만 like_count를 UPDATE 문 한 번으로 증감한다 (읽고-수정-저장 경합 없음)
      * @param articleId 게시글 ID
      * @param userEmail 사용자 이메일
      * @return true: 좋아요 추가, false: 좋아요 취소
      */
     @Transactional
     public boolean toggleLike(Long articleId, String userEmail) {
-        User user = findUserByEmail(userEmail);
-        Article article = findArticleById(articleId);
+        // JDBC로 직접 쓰기 전에 같은 트랜잭션에서 아직 반영되지 않은 JPA 변경을 반영
+        articleLikeRepository.flush();
+        Long userId = findUserIdByEmail(userEmail);
+        ToggleResult result = reactionWriteRepository.toggle(ReactionTable.LIKE, userId, articleId);
 
-        // 기존 좋아요 확인
-        boolean alreadyLiked = articleLikeRepository.existsByUserAndArticle(user, article);
-        
-        if (alreadyLiked) {
-            return removeLikeWithRetry(user, article);
-        } else {
-            return addLikeWithRetry(user, article);
+        if (result == ToggleResult.UNCHANGED) {
+            // 바뀐 행이 없는 드문 경우에만 원인을 확인한다
+            if (!articleRepository.existsById(articleId)) {
+                throw new IllegalArgumentException("게시글을 찾을 수 없습니다: " + articleId);
+            }
+            if (!userRepository.existsById(userId)) {
+                // 캐시된 id의 사용자가 없으면 (탈퇴 후 같은 이메일로 재가입 등) 다시 조회해 한 번 더 시도
+                userIdCache.evict(userEmail);
+                userId = findUserIdByEmail(userEmail);
+                result = reactionWriteRepository.toggle(ReactionTable.LIKE, userId, articleId);
+            }
         }
-    }
 
-    /**
-     * 좋아요 추가 (낙관적 재시도)
-     */
-    private boolean addLikeWithRetry(User user, Article article) {
-        for (int attempt = 1; attempt <= MAX_RETRY_COUNT; attempt++) {
-            try {
-                return addLike(user, article);
-            } catch (DataIntegrityViolationException e) {
-                // UNIQUE 제약 조건 위반 - 이미 좋아요가 존재함
-                log.debug("Like already exists for user {} and article {} (attempt {})", 
-                         user.getEmail(), article.getId(), attempt);
-                
-                if (attempt == MAX_RETRY_COUNT) {
-                    // 마지막 시도에서도 실패하면 idempotent하게 성공으로 처리
-                    log.info("Like already exists after {} attempts - treating as success", attempt);
-                    return true;
-                }
-                
-                // 잠시 대기 후 재시도
-                try {
-                    Thread.sleep(10 * attempt); // 10ms, 20ms, 30ms
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Interrupted during retry", ie);
-                }
+        switch (result) {
+            case ADDED -> {
+                applyLikeDelta(articleId, 1);
+                reactionSetCache.update(ReactionSetCache.Reaction.LIKE, articleId, userEmail, true);
+                likerIndexService.like(articleId, userId);
+                log.info("Like added: user={}, article={}", userEmail, articleId);
+            }
+            case REMOVED -> {
+                applyLikeDelta(articleId, -1);
+                reactionSetCache.update(ReactionSetCache.Reaction.LIKE, articleId, userEmail, false);
+                likerIndexService.unlike(articleId, userId);
+                log.info("Like removed: user={}, article={}", userEmail, articleId);
             }
+            // 같은 좋아요가 동시에 추가됨: 이미 좋아요 상태이므로 카운트는 그 요청이 올린다 (idempotent)
+            case UNCHANGED -> log.debug("Like already added concurrently: user={}, article={}", userEmail, articleId);
         }
-        return true; // 이론적으로 도달하지 않음
+        return result != ToggleResult.REMOVED;
     }
 
-    /**
-     * 좋아요 제거 (낙관적 재시도)
-     */
-    private boolean removeLikeWithRetry(User user, Article article) {
-        for (int attempt = 1; attempt <= MAX_RETRY_COUNT; attempt++) {
-            try {
-                return removeLike(user, article);
-            } catch (Exception e) {
-                log.debug("Error removing like for user {} and article {} (attempt {})", 
-                         user.getEmail(), article.getId(), attempt, e);
-                
-                if (attempt == MAX_RETRY_COUNT) {
-                    // 마지막 시도에서도 실패하면 idempotent하게 성공으로 처리
-                    log.info("Failed to remove like after {} attempts - treating as success", attempt);
-                    return false;
-                }
-                
-                // 잠시 대기 후 재시도
-                try {
-                    Thread.sleep(10 * attempt);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Interrupted during retry", ie);
+    private void applyLikeDelta(Long articleId, long delta) {
+        if (likeCountBuffer.isEnabled()) {
+            // 버퍼 모드: 커밋된 증감분만 메모리 카운터에 더하고 DB 반영은 주기적으로 모아서 한다
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    likeCountBuffer.add(articleId, delta);
                 }
-            }
+            });
+        } else {
+            articleRepository.adjustLikeCount(articleId, delta);
+        }
+        articleCacheService.evict(articleId);
+        if (delta > 0) {
+            trendingService.recordLike(articleId);
+        } else {
+            trendingService.recordUnlike(articleId);
         }
-        return false; // 이론적으로 도달하지 않음
     }
 
     /**
-     * 좋아요 추가 로직
+     * 좋아요 상태 조회 (비트맵 색인, Redis 집합 우선)
      */
-    private boolean addLike(User user, Article article) {
-        // 1. 좋아요 엔티티 저장
-        ArticleLike like = new ArticleLike(user, article);
-        articleLikeRepository.save(like);
-        
-        // 2. 게시글 좋아요 카운트 증가
-        article.incrementLikeCount();
-        articleRepository.save(article);
-        
-        log.info("Like added: user={}, article={}, new count={}", 
-                user.getEmail(), article.getId(), article.getLikeCount());
-        
-        return true;
+    public boolean isLiked(Long articleId, String userEmail) {
+        Optional<LikerBitmapIndex> index = likerIndexService.current();
+        if (index.isPresent()) {
+            Long userId = findUserIdByEmail(userEmail);
+            requireIndexedArticle(index.get(), articleId);
+            return index.get().isLiked(articleId, userId);
+        }
+        return reactionSetCache.isMember(ReactionSetCache.Reaction.LIKE, articleId, userEmail,
+                        () -> articleRepository.existsById(articleId)
+                                ? Optional.of(articleLikeRepository.findUserEmailsByArticleId(articleId))
+                                : Optional.empty())
+                .orElseGet(() -> isLikedInDb(articleId, userEmail));
     }
 
     /**
-     * 좋아요 제거 로직
+     * 좋아요 여부와 좋아요 수를 함께 조회
+     * 여부는 비트맵 색인 -> Redis 집합 -> DB 순으로 확인하고,
+     * 수는 다른 조회 API와 같도록 항상 like_count(+ 버퍼 증감분)로 읽는다
      */
-    private boolean removeLike(User user, Article article) {
-        // 1. 좋아요 엔티티 삭제
-        int deletedCount = articleLikeRepository.deleteByUserAndArticle(user, article);
-        
-        if (deletedCount > 0) {
-            // 2. 게시글 좋아요 카운트 감소
-            article.decrementLikeCount();
-            articleRepository.save(article);
-            
-            log.info("Like removed: user={}, article={}, new count={}", 
-                    user.getEmail(), article.getId(), article.getLikeCount());
-        } else {
-            // 삭제할 좋아요가 없음 (idempotent)
-            log.debug("No like to remove for user={}, article={}", user.getEmail(), article.getId());
-        }
-        
-        return false;
+    public ReactionSetCache.ReactionStatus getLikeStatus(Long articleId, String userEmail) {
+        boolean liked = isLiked(articleId, userEmail);
+        return new ReactionSetCache.ReactionStatus(liked, getLikeCount(articleId));
     }
 
-    /**
-     * 좋아요 상태 조회
-     */
-    @Transactional(readOnly = true)
-    public boolean isLiked(Long articleId, String userEmail) {
+    private boolean isLikedInDb(Long articleId, String userEmail) {
         User user = findUserByEmail(userEmail);
         Article article = findArticleById(articleId);
         return articleLikeRepository.existsByUserAndArticle(user, article);
@@ -158,8 +146,45 @@ public class ArticleLikeService {
      */
     @Transactional(readOnly = true)
     public long getLikeCount(Long articleId) {
-        Article article = findArticleById(articleId);
-        return article.getLikeCount();
+        // 영속성 컨텍스트의 엔티티 값이 아닌 DB의 현재 값을 읽는다 (UPDATE 문으로 증감하므로)
+        // 버퍼 모드에서는 아직 반영되지 않은 증감분을 더한다
+        long persisted = articleRepository.findLikeCountById(articleId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다: " + articleId));
+        return Math.max(0, persisted + likeCountBuffer.pending(articleId));
+    }
+
+    /**
+     * 두 사용자가 모두 좋아요한 게시글 요약 조회 (최신 게시글부터 최대 limit개)
+     * 비트맵 색인이 준비됐으면 두 사용자의 비트맵 AND로, 아니면 DB에서 구한다
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleSummaryDTO> getCommonLikedArticles(Long userId, Long otherUserId, Integer limit) {
+        int size = ArticleService.normalizePageSize(limit);
+        List<Long> ids = likerIndexService.current()
+                .map(index -> index.likedByBoth(userId, otherUserId, size))
+                .orElseGet(() -> articleLikeRepository.findCommonLikedArticleIds(userId, otherUserId, PageRequest.of(0, size)));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // IN 조회는 순서를 보장하지 않으므로 최신순으로 다시 정렬
+        Map<Long, ArticleSummaryDTO> articles = articleRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(ArticleSummaryDTO::getArticleId, Function.identity()));
+        return ids.stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static void requireIndexedArticle(LikerBitmapIndex index, Long articleId) {
+        if (!index.hasArticle(articleId)) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다: " + articleId);
+        }
+    }
+
+    private Long findUserIdByEmail(String email) {
+        return userIdCache.getId(email)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + email));
     }
 
     private User findUserByEmail(String email) {
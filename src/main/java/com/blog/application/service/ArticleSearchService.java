@@ -0,0 +1,203 @@
+package com.blog.application.service;
+
+import com.blog.application.common.search.InvertedIndex;
+import com.blog.application.entity.Article;
+import com.blog.application.repository.jpa.ArticleRepository;
+import com.blog.application.response.ArticleDTO;
+import com.blog.application.response.ArticleSearchResultDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Service
+public class ArticleSearchService {
+
+    // 스냅샷과 DB를 맞출 때 한 번에 읽어오는 게시글 수
+    private static final int SYNC_CHUNK_SIZE = 500;
+
+    private final InvertedIndex index = new InvertedIndex();
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path snapshotPath;
+    private final boolean snapshotEnabled;
+    // 마지막 스냅샷 이후 색인이 바뀌었는지 여부
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    public ArticleSearchService(ArticleRepository articleRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${article.search.snapshot-path:./data/search-index.snapshot}") String snapshotPath,
+                                @Value("${article.search.snapshot-enabled:true}") boolean snapshotEnabled) {
+        this.articleRepository = articleRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.snapshotPath = Paths.get(snapshotPath);
+        this.snapshotEnabled = snapshotEnabled;
+    }
+
+    /**
+     * 기동 시 스냅샷이 있으면 복원 후 DB와 차이만 맞추고, 없으면 전체 게시글로 색인을 새로 만든다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (snapshotEnabled && loadSnapshot()) {
+            synchronizeWithDatabase();
+        } else {
+            rebuild();
+        }
+        log.info("Article search index ready: {} documents", index.size());
+    }
+
+    /**
+     * 게시글 색인 추가/갱신
+     */
+    public void index(Article article) {
+        index.index(article.getId(), article.getVersion(), article.getTitle(), article.getContent());
+        dirty.set(true);
+    }
+
+    /**
+     * 게시글 색인 삭제
+     */
+    public void remove(Long articleId) {
+        index.remove(articleId);
+        dirty.set(true);
+    }
+
+    /**
+     * 제목/본문 검색 (BM25 점수 순, page는 0부터)
+     */
+    public ArticleSearchResultDTO search(String query, int page, int size) {
+        // page가 커도 넘치지 않도록 long으로 계산 (결과 수를 넘는 offset은 빈 페이지)
+        InvertedIndex.SearchResult result = index.search(query, (long) page * size, size);
+        List<Long> ids = result.hits().stream().map(InvertedIndex.Hit::id).toList();
+        if (ids.isEmpty()) {
+            return new ArticleSearchResultDTO(List.of(), result.totalHits(), page, size);
+        }
+
+        // IN 조회는 순서를 보장하지 않으므로 점수 순서대로 다시 정렬
+        Map<Long, ArticleDTO> articles = articleRepository.findDTOsByIdIn(ids).stream()
+                .collect(Collectors.toMap(ArticleDTO::getArticleId, Function.identity()));
+        List<ArticleDTO> ranked = ids.stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new ArticleSearchResultDTO(ranked, result.totalHits(), page, size);
+    }
+
+    /**
+     * 전체 게시글을 스트리밍으로 읽어 색인을 다시 만든다
+     */
+    public void rebuild() {
+        index.clear();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ArticleDTO> articles = articleRepository.streamAll()) {
+                articles.forEach(article -> index.index(article.getArticleId(), article.getVersion(), article.getTitle(), article.getContent()));
+            }
+        });
+        dirty.set(true);
+    }
+
+    // 주기적으로 변경분이 있을 때만 스냅샷 저장
+    @Scheduled(fixedDelayString = "${article.search.snapshot-interval-ms:300000}")
+    public void snapshotIfDirty() {
+        if (snapshotEnabled && dirty.getAndSet(false)) {
+            writeSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshotIfDirty();
+    }
+
+    private boolean loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(snapshotPath))))) {
+            index.readSnapshot(in);
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to load search index snapshot {} - rebuilding", snapshotPath, e);
+            return false;
+        }
+    }
+
+    private void writeSnapshot() {
+        Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try {
+            if (snapshotPath.getParent() != null) {
+                Files.createDirectories(snapshotPath.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(tempPath))))) {
+                index.writeSnapshot(out);
+            }
+            // 쓰는 도중 종료돼도 이전 스냅샷이 깨지지 않도록 임시 파일을 교체
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Search index snapshot written: {}", snapshotPath);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("Failed to write search index snapshot {}", snapshotPath, e);
+        }
+    }
+
+    // 스냅샷 이후 생성/삭제/수정된 게시글만 반영
+    // 스냅샷에 기록된 게시글 버전과 DB 버전이 다르면(스냅샷 이후 수정, 비정상 종료로 저장 못 한 변경 등) 다시 색인한다
+    private void synchronizeWithDatabase() {
+        Map<Long, Long> articleVersions = new HashMap<>();
+        for (Object[] row : articleRepository.findAllIdsAndVersions()) {
+            articleVersions.put((Long) row[0], (Long) row[1]);
+        }
+        Map<Long, Long> indexedVersions = index.documentVersions();
+
+        indexedVersions.keySet().stream()
+                .filter(id -> !articleVersions.containsKey(id))
+                .forEach(this::remove);
+
+        List<Long> staleIds = articleVersions.entrySet().stream()
+                .filter(entry -> !Objects.equals(indexedVersions.get(entry.getKey()), entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        for (int from = 0; from < staleIds.size(); from += SYNC_CHUNK_SIZE) {
+            List<Long> chunk = staleIds.subList(from, Math.min(from + SYNC_CHUNK_SIZE, staleIds.size()));
+            articleRepository.findDTOsByIdIn(chunk)
+                    .forEach(article -> index.index(article.getArticleId(), article.getVersion(), article.getTitle(), article.getContent()));
+            dirty.set(true);
+        }
+        if (!staleIds.isEmpty()) {
+            log.info("Search index re-indexed {} articles created or edited since the snapshot", staleIds.size());
+        }
+    }
+}
+
+//게시글 전문 검색 서비스
+//메모리 역색인을 게시글 생성/수정/삭제 시 증분 갱신하고, 재시작 시 디스크 스냅샷으로 전체 재색인을 피한다
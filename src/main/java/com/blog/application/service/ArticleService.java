@@ -3,40 +3,179 @@ package com.blog.application.service;
 import com.blog.application.entity.Article;
 import com.blog.application.repository.jpa.ArticleRepository;
 import com.blog.application.repository.jpa.CommentRepository;
+import com.blog.application.response.ArticleDTO;
+import com.blog.application.response.ArticleSummaryDTO;
+import com.blog.application.response.CursorPageDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class ArticleService {
+    // 커서 페이지 기본/최대 크기
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    // 내보내기 시 이 건수마다 출력 스트림을 flush
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
     private final ArticleRepository articleRepository;
 
     private final CommentRepository commentRepository;
 
-    public ArticleService(ArticleRepository articleRepository, CommentRepository commentRepository) {
+    private final ArticleCacheService articleCacheService;
+
+    private final ArticleSearchService articleSearchService;
+
+    private final TrendingService trendingService;
+
+    private final ViewCountService viewCountService;
+
+    private final ReactionSetCache reactionSetCache;
+
+    private final LikerIndexService likerIndexService;
+
+    private final ObjectMapper objectMapper;
+
+    public ArticleService(ArticleRepository articleRepository, CommentRepository commentRepository,
+                          ArticleCacheService articleCacheService, ArticleSearchService articleSearchService,
+                          TrendingService trendingService, ViewCountService viewCountService,
+                          ReactionSetCache reactionSetCache, LikerIndexService likerIndexService,
+                          ObjectMapper objectMapper) {
         this.articleRepository = articleRepository;
         this.commentRepository = commentRepository;
+        this.articleCacheService = articleCacheService;
+        this.articleSearchService = articleSearchService;
+        this.trendingService = trendingService;
+        this.viewCountService = viewCountService;
+        this.reactionSetCache = reactionSetCache;
+        this.likerIndexService = likerIndexService;
+        this.objectMapper = objectMapper;
     }
 
     public List<Article> getAllArticles() {
         return articleRepository.findAll();
     }
 
+    // 커서(after) 이후의 게시글을 limit개 조회, 가득 찬 페이지면 마지막 id를 다음 커서로 반환
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ArticleDTO> getArticlesAfter(Long after, Integer limit) {
+        int size = normalizePageSize(limit);
+        List<ArticleDTO> articles = articleRepository.findPageAfter(after == null ? 0L : after, PageRequest.of(0, size));
+        String nextCursor = articles.size() == size
+                ? String.valueOf(articles.get(articles.size() - 1).getArticleId())
+                : null;
+        return new CursorPageDTO<>(articles, nextCursor);
+    }
+
+    // 목록용 요약 조회 (본문 제외)
+    @Transactional(readOnly = true)
+    public List<ArticleSummaryDTO> getAllArticleSummaries() {
+        return articleRepository.findAllSummaries();
+    }
+
+    // 목록용 요약 커서 페이지 조회 (본문 제외)
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ArticleSummaryDTO> getArticleSummariesAfter(Long after, Integer limit) {
+        int size = normalizePageSize(limit);
+        List<ArticleSummaryDTO> articles = articleRepository.findSummaryPageAfter(after == null ? 0L : after, PageRequest.of(0, size));
+        String nextCursor = articles.size() == size
+                ? String.valueOf(articles.get(articles.size() - 1).getArticleId())
+                : null;
+        return new CursorPageDTO<>(articles, nextCursor);
+    }
+
+    // 작성자별 게시글 요약 커서 페이지 조회 (최신순, before 미지정 시 가장 최신부터)
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ArticleSummaryDTO> getArticleSummariesByAuthor(Long userId, Long before, Integer limit) {
+        int size = normalizePageSize(limit);
+        List<ArticleSummaryDTO> articles = articleRepository.findSummaryPageByUserIdBefore(
+                userId, before == null ? Long.MAX_VALUE : before, PageRequest.of(0, size));
+        String nextCursor = articles.size() == size
+                ? String.valueOf(articles.get(articles.size() - 1).getArticleId())
+                : null;
+        return new CursorPageDTO<>(articles, nextCursor);
+    }
+
+    /**
+     * 전체 게시글을 NDJSON(한 줄에 JSON 하나)으로 출력 스트림에 바로 쓴다
+     * 목록을 메모리에 모으지 않으므로 게시글 수와 관계없이 힙 사용량이 일정하다
+     * @return 내보낸 게시글 수
+     */
+    @Transactional(readOnly = true)
+    public long exportArticles(OutputStream out) throws IOException {
+        // 행마다 flush 하지 않도록 FLUSH_AFTER_WRITE_VALUE를 끄고 일정 건수마다 직접 flush
+        ObjectWriter writer = objectMapper.writerFor(ArticleDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (Stream<ArticleDTO> articles = articleRepository.streamAll();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 응답 스트림은 컨테이너가 닫도록 둔다
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            Iterator<ArticleDTO> iterator = articles.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                if (++count % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        return count;
+    }
+
     public Optional<Article> getArticleById(Long id) {
         return articleRepository.findById(id);
     }
 
+    // 게시글 단건 DTO 조회 (로컬 캐시 우선)
+    public Optional<ArticleDTO> getArticleDTO(Long id) {
+        return articleCacheService.getArticle(id, articleRepository::findDTOById);
+    }
+
+    // 게시글 단건의 직렬화/압축된 응답 조회 (응답 캐시 우선)
+    public Optional<ArticleCacheService.EncodedArticle> getEncodedArticle(Long id) {
+        return articleCacheService.getEncodedArticle(id, articleRepository::findDTOById);
+    }
+
     public Article saveArticle(Article article) {
-        return articleRepository.save(article);
+        Article savedArticle = articleRepository.save(article);
+        articleCacheService.evict(savedArticle.getId());
+        articleSearchService.index(savedArticle);
+        likerIndexService.addArticle(savedArticle.getId());
+        return savedArticle;
     }
 
     @Transactional
     public void deleteArticle(Article article) {
+        // 게시글의 댓글을 한 번의 DELETE로 지운다 (게시글도 함께 삭제되므로 comment_count는 보정할 필요가 없다)
         commentRepository.deleteAllByArticleId(article.getId());
         articleRepository.delete(article);
+        articleCacheService.evict(article.getId());
+        articleSearchService.remove(article.getId());
+        trendingService.remove(article.getId());
+        viewCountService.remove(article.getId());
+        reactionSetCache.evict(article.getId());
+        likerIndexService.removeArticle(article.getId());
+    }
+
+    public static int normalizePageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
     }
 
 }
@@ -0,0 +1,75 @@
+package com.blog.application.service;
+
+import com.blog.application.common.bitmap.LikerBitmapIndex;
+import com.blog.application.repository.jpa.ArticleBookmarkRepository;
+import com.blog.application.repository.jpa.ArticleLikeRepository;
+import com.blog.application.repository.jpa.ArticleRepository;
+import com.blog.application.response.ArticleStatusDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ArticleStatusService {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleLikeRepository articleLikeRepository;
+    private final ArticleBookmarkRepository articleBookmarkRepository;
+    private final UserIdCache userIdCache;
+    private final LikeCountBuffer likeCountBuffer;
+    private final LikerIndexService likerIndexService;
+
+    /**
+     * 여러 게시글의 좋아요/북마크 여부와 좋아요 수를 한 번에 조회
+     * 사용자는 한 번만 확인하고, 게시글/좋아요/북마크를 각각 IN 조회 한 번으로 읽는다
+     * (좋아요 비트맵 색인이 준비됐으면 좋아요 여부와 개수는 색인에서 읽는다)
+     * @param articleIds 게시글 ID 목록 (중복은 한 번만, 없는 게시글은 결과에서 빠진다)
+     * @param userEmail 사용자 이메일
+     * @return 요청한 순서대로 정렬된 게시글별 상태
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleStatusDTO> getStatuses(List<Long> articleIds, String userEmail) {
+        Long userId = userIdCache.getId(userEmail)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userEmail));
+        Set<Long> ids = new LinkedHashSet<>(articleIds);
+
+        Map<Long, ArticleStatusDTO> statuses = articleRepository.findStatusesByIdIn(ids).stream()
+                .collect(Collectors.toMap(ArticleStatusDTO::getArticleId, Function.identity()));
+        if (statuses.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> bookmarked = new HashSet<>(articleBookmarkRepository.findBookmarkedArticleIds(userId, statuses.keySet()));
+        Optional<LikerBitmapIndex> index = likerIndexService.current();
+        Set<Long> liked = index.isPresent()
+                ? Set.of()
+                : new HashSet<>(articleLikeRepository.findLikedArticleIds(userId, statuses.keySet()));
+
+        for (ArticleStatusDTO status : statuses.values()) {
+            Long articleId = status.getArticleId();
+            status.setBookmarked(bookmarked.contains(articleId));
+            status.setLiked(index.isPresent()
+                    ? index.get().isLiked(articleId, userId)
+                    : liked.contains(articleId));
+            // 좋아요 수는 다른 조회 API와 같게 like_count 기준, 버퍼 모드에서는 아직 반영되지 않은 증감분을 더한다
+            status.setLikeCount(Math.max(0, status.getLikeCount() + likeCountBuffer.pending(articleId)));
+        }
+        return ids.stream()
+                .map(statuses::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
+
+//피드처럼 여러 게시글을 한 화면에 보여줄 때 게시글마다 상태 API를 부르지 않도록 한 번에 조회한다
@@ -0,0 +1,10 @@
+package com.blog.application.service;
+
+import com.blog.application.response.CommentDTO;
+
+/**
+ * 댓글 작성 이벤트 (트랜잭션 커밋 후 댓글 스트림 구독자에게 전달된다)
+ * Redis 릴레이 시 메시지 본문(JSON)으로도 사용된다
+ */
+public record CommentCreatedEvent(Long articleId, CommentDTO comment) {
+}
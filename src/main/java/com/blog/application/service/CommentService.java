@@ -1,21 +1,75 @@
 package com.blog.application.service;
 
 import com.blog.application.entity.Comment;
+import com.blog.application.repository.jpa.ArticleRepository;
 import com.blog.application.repository.jpa.CommentRepository;
+import com.blog.application.response.CommentDTO;
+import com.blog.application.response.CommentNodeDTO;
+import com.blog.application.response.CursorPageDTO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class CommentService {
 
     private final CommentRepository commentRepository;
+    private final ArticleRepository articleRepository;
+    private final ArticleCacheService articleCacheService;
+    private final TrendingService trendingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public CommentService(CommentRepository commentRepository) {
+    public CommentService(CommentRepository commentRepository, ArticleRepository articleRepository,
+                          ArticleCacheService articleCacheService, TrendingService trendingService,
+                          ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
+        this.articleRepository = articleRepository;
+        this.articleCacheService = articleCacheService;
+        this.trendingService = trendingService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // 새 댓글 작성 (게시글 댓글 수 증가, 인기 게시글 랭킹에 반영)
+    @Transactional
+    public Comment createComment(Comment comment) {
+        return createComment(comment, null);
+    }
+
+    /**
+     * 댓글 또는 답글 작성
+     * @param parentId 부모 댓글 ID (루트 댓글이면 null), 같은 게시글의 댓글이어야 하며 MAX_DEPTH 미만이어야 한다
+     */
+    @Transactional
+    public Comment createComment(Comment comment, Long parentId) {
+        Long articleId = comment.getArticle().getId();
+        Comment parent = null;
+        if (parentId != null) {
+            parent = commentRepository.findById(parentId)
+                    .filter(candidate -> candidate.getArticle().getId().equals(articleId))
+                    .orElseThrow(() -> new IllegalArgumentException("부모 댓글을 찾을 수 없습니다: " + parentId));
+            if (parent.getDepth() >= Comment.MAX_DEPTH) {
+                throw new IllegalArgumentException("답글은 최대 " + Comment.MAX_DEPTH + "단계까지 달 수 있습니다.");
+            }
+        }
+
+        Comment savedComment = commentRepository.save(comment);
+        // path에는 자신의 id가 들어가므로 insert로 id를 받은 뒤 설정 (커밋 시 UPDATE로 반영)
+        savedComment.placeUnder(parent);
+        articleRepository.adjustCommentCount(articleId, 1);
+        articleCacheService.evict(articleId);
+        trendingService.recordComment(articleId);
+        // 커밋 후 댓글 스트림(SSE) 구독자에게 전달된다
+        eventPublisher.publishEvent(new CommentCreatedEvent(articleId,
+                new CommentDTO(savedComment.getId(), savedComment.getUser().getEmail(), savedComment.getContent())));
+        return savedComment;
     }
 
     // 댓글 저장 (생성 및 수정)
@@ -28,16 +82,73 @@ public class CommentService {
         return commentRepository.findById(id);
     }
 
-    // 댓글 삭제
+    // 댓글 삭제 (아래 달린 답글도 함께 삭제)
+    // 실제로 지운 수만큼만 게시글 댓글 수를 차감하므로 동시에 두 번 삭제돼도 중복 차감되지 않는다
+    @Transactional
     public void deleteComment(Comment comment) {
-        commentRepository.delete(comment);
+        Long articleId = comment.getArticle().getId();
+        int deleted = comment.getPath() != null
+                ? commentRepository.deleteSubtree(articleId, comment.getPath() + "%")
+                : commentRepository.deleteCommentById(comment.getId());
+        if (deleted > 0) {
+            articleRepository.adjustCommentCount(articleId, -deleted);
+            articleCacheService.evict(articleId);
+        }
+    }
+
+    /**
+     * 댓글 스레드 조회: 댓글과 그 아래 답글을 한 번의 쿼리로 읽어 중첩 구조로 반환
+     * @param depth 루트 댓글 기준으로 몇 단계 아래 답글까지 포함할지 (null이면 전체)
+     */
+    @Transactional(readOnly = true)
+    public Optional<CommentNodeDTO> getThread(Long articleId, Long commentId, Integer depth) {
+        Optional<Comment> root = commentRepository.findById(commentId)
+                .filter(comment -> comment.getArticle().getId().equals(articleId) && comment.getPath() != null);
+        if (root.isEmpty()) {
+            return Optional.empty();
+        }
+
+        int relativeDepth = depth == null ? Comment.MAX_DEPTH : Math.max(0, Math.min(depth, Comment.MAX_DEPTH));
+        List<CommentNodeDTO> nodes = commentRepository.findSubtree(
+                articleId, root.get().getPath() + "%", root.get().getDepth() + relativeDepth);
+        return Optional.ofNullable(buildTree(nodes));
+    }
+
+    // path 순으로 정렬된 노드는 부모가 항상 먼저 나오므로, 한 번 순회하면서 부모의 replies에 붙인다
+    private static CommentNodeDTO buildTree(List<CommentNodeDTO> nodes) {
+        Map<Long, CommentNodeDTO> nodesById = new HashMap<>();
+        CommentNodeDTO root = null;
+        for (CommentNodeDTO node : nodes) {
+            CommentNodeDTO parent = node.getParentId() == null ? null : nodesById.get(node.getParentId());
+            if (parent != null) {
+                parent.getReplies().add(node);
+            } else if (root == null) {
+                root = node;
+            }
+            nodesById.put(node.getCommentId(), node);
+        }
+        return root;
+    }
+
+    // 특정 게시글에 속한 모든 댓글 조회 (DTO 프로젝션)
+    @Transactional(readOnly = true)
+    public List<CommentDTO> getCommentsByArticleId(Long articleId) {
+        return commentRepository.findDTOsByArticleId(articleId);
     }
 
-    // 특정 게시글에 속한 모든 댓글 조회
-    public List<Comment> getCommentsByArticleId(Long articleId) {
-        return commentRepository.findAllByArticleId(articleId);
+    // 커서(after) 이후의 댓글을 limit개 조회, 가득 찬 페이지면 마지막 id를 다음 커서로 반환
+    @Transactional(readOnly = true)
+    public CursorPageDTO<CommentDTO> getCommentsAfter(Long articleId, Long after, Integer limit) {
+        int size = ArticleService.normalizePageSize(limit);
+        List<CommentDTO> comments = commentRepository.findPageByArticleIdAfter(
+                articleId, after == null ? 0L : after, PageRequest.of(0, size));
+        String nextCursor = comments.size() == size
+                ? String.valueOf(comments.get(comments.size() - 1).getCommentId())
+                : null;
+        return new CursorPageDTO<>(comments, nextCursor);
     }
 }
 
 //CommentService는 댓글 관련 CRUD 로직을 수행한다
+//댓글 작성/삭제 시 게시글의 댓글 수(comment_count)를 함께 갱신한다
 //댓글 생성, 수정, 삭제, 그리고 특정 게시글에 속한 댓글 목록 조회 기능을 제공한다
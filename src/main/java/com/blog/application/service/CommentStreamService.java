@@ -0,0 +1,214 @@
+package com.blog.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+public class CommentStreamService {
+
+    public static final String REDIS_CHANNEL = "comments:created";
+
+    // 게시글별 구독자(SSE 연결) 목록
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    // 전송은 요청 스레드가 아닌 전용 스레드에서 수행 (느린 클라이언트가 댓글 작성 요청을 붙잡지 않게 함)
+    private final ExecutorService sender;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final boolean redisRelay;
+    private final long emitterTimeoutMillis;
+    private final int maxSubscribers;
+    private final int maxSubscribersPerArticle;
+
+    public CommentStreamService(ObjectMapper objectMapper,
+                                ObjectProvider<StringRedisTemplate> redisTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${article.comments.stream.redis-relay:false}") boolean redisRelay,
+                                @Value("${article.comments.stream.timeout:30m}") Duration timeout,
+                                @Value("${article.comments.stream.sender-threads:4}") int senderThreads,
+                                @Value("${article.comments.stream.queue-capacity:10000}") int queueCapacity,
+                                @Value("${article.comments.stream.max-subscribers:10000}") int maxSubscribers,
+                                @Value("${article.comments.stream.max-subscribers-per-article:1000}") int maxSubscribersPerArticle) {
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisTemplate;
+        this.redisRelay = redisRelay;
+        this.emitterTimeoutMillis = timeout.toMillis();
+        this.maxSubscribers = maxSubscribers;
+        this.maxSubscribersPerArticle = maxSubscribersPerArticle;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 큐가 가득 차면 가장 오래된 전송을 버린다 (스트림은 최선 노력 전달이며, 놓친 댓글은 목록 조회로 보완)
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "comment-stream-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardOldestPolicy());
+        Gauge.builder("comments.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("댓글 스트림(SSE) 구독자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시글 댓글 스트림 구독 (연결이 끝나거나 시간이 지나면 자동으로 구독 해제)
+     * @return 전체 또는 게시글별 구독자 수 상한에 걸리면 empty
+     */
+    public Optional<SseEmitter> subscribe(Long articleId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        AtomicBoolean accepted = new AtomicBoolean();
+        // 집합 생성과 추가를 한 번에 처리해, 마지막 구독자가 빠지며 집합이 지워지는 unsubscribe와 엇갈리지 않게 한다
+        subscribers.compute(articleId, (id, emitters) -> {
+            if (emitters == null) {
+                emitters = new CopyOnWriteArraySet<>();
+            }
+            if (emitters.size() < maxSubscribersPerArticle && reserveSlot()) {
+                emitters.add(emitter);
+                accepted.set(true);
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+        if (!accepted.get()) {
+            return Optional.empty();
+        }
+
+        Runnable unsubscribe = () -> unsubscribe(articleId, emitter);
+        emitter.onCompletion(unsubscribe);
+        // 시간이 다 되면 정상 종료로 끝낸다 (그대로 두면 AsyncRequestTimeoutException이 이미 시작된 이벤트 스트림에 오류 응답을 쓰려 한다)
+        emitter.onTimeout(() -> {
+            unsubscribe.run();
+            emitter.complete();
+        });
+        emitter.onError(error -> unsubscribe.run());
+        return Optional.of(emitter);
+    }
+
+    /**
+     * 댓글 작성 트랜잭션이 커밋된 뒤에만 전달 (롤백된 댓글은 보내지 않음)
+     * Redis 릴레이를 켜면 채널로 발행하고, 각 서버는 구독한 메시지를 자기 구독자에게 보낸다
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        StringRedisTemplate template = redisRelay ? redisTemplate.getIfAvailable() : null;
+        if (template == null) {
+            broadcast(event);
+            return;
+        }
+        try {
+            template.convertAndSend(REDIS_CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to relay comment event through Redis - delivering locally only", e);
+            broadcast(event);
+        }
+    }
+
+    /**
+     * Redis 채널에서 받은 메시지를 이 서버의 구독자에게 전달
+     */
+    public void onRelayedMessage(String message) {
+        try {
+            broadcast(objectMapper.readValue(message, CommentCreatedEvent.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed comment stream message: {}", message, e);
+        }
+    }
+
+    /**
+     * 해당 게시글 구독자에게 새 댓글 전송 (전용 스레드에서 비동기로 수행)
+     */
+    public void broadcast(CommentCreatedEvent event) {
+        Set<SseEmitter> emitters = subscribers.get(event.articleId());
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            submit(() -> send(event.articleId(), emitter, SseEmitter.event()
+                    .name("comment")
+                    .id(String.valueOf(event.comment().getCommentId()))
+                    .data(event.comment())));
+        }
+    }
+
+    // 프록시가 유휴 연결을 끊지 않도록 주기적으로 SSE 주석을 보내고, 끊긴 연결을 정리한다
+    @Scheduled(fixedDelayString = "${article.comments.stream.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        subscribers.forEach((articleId, emitters) -> emitters.forEach(emitter ->
+                submit(() -> send(articleId, emitter, SseEmitter.event().comment("keepalive")))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        subscribers.clear();
+    }
+
+    private void submit(Runnable task) {
+        try {
+            sender.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("Comment stream sender is shut down - dropping message");
+        }
+    }
+
+    private void send(Long articleId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 연결
+            unsubscribe(articleId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    // 전체 구독자 수 상한 안에서만 자리를 잡는다
+    private boolean reserveSlot() {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private void unsubscribe(Long articleId, SseEmitter emitter) {
+        subscribers.computeIfPresent(articleId, (id, emitters) -> {
+            if (emitters.remove(emitter)) {
+                subscriberCount.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
+
+//게시글별 댓글 스트림(SSE) 서비스
+//구독자 목록을 게시글별로 관리하고, 댓글이 커밋되면 전용 스레드에서 구독자에게 푸시한다
+//여러 서버로 운영할 때는 Redis pub/sub 채널로 이벤트를 중계한다
+//구독자 수는 전체/게시글별 상한을 두어 연결이 몰려도 전송 스레드와 메모리가 버티게 한다
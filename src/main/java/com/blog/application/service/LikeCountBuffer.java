@@ -0,0 +1,137 @@
+package com.blog.application.service;
+
+import com.blog.application.common.counter.DeltaCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Service
+public class LikeCountBuffer {
+
+    static final String FLUSH_SQL = "UPDATE \"article\" SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+    // 한 번의 JDBC 배치로 보내는 UPDATE 수
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final boolean enabled;
+    private final DeltaCounter pendingLikes = new DeltaCounter();
+    // add 진행 중인 호출 수 (종료 시 마지막 flush 전에 진행 중인 add가 끝나길 기다린다)
+    private final LongAdder activeAdds = new LongAdder();
+    private volatile boolean closed;
+    // 꺼내서 DB에 반영 중인 증가분 (반영 중에도 좋아요 수가 줄어 보이지 않도록 함께 더한다)
+    private volatile Map<Long, Long> flushing = Map.of();
+
+    @Autowired
+    public LikeCountBuffer(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${article.likes.buffered:false}") boolean enabled) {
+        this(jdbcTemplate, new TransactionTemplate(transactionManager), enabled);
+        Gauge.builder("article.likes.pending", pendingLikes, DeltaCounter::totalPending)
+                .description("아직 DB에 반영되지 않은 좋아요 수 증감분")
+                .register(meterRegistry);
+    }
+
+    LikeCountBuffer(JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations, boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 버퍼 모드 사용 여부 (article.likes.buffered)
+     * 켜면 좋아요 수 증감을 메모리에 모아 주기적으로 반영하므로 인기 게시글 한 행에 대한 잠금 경합이 사라진다
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 좋아요 수 증감분을 버퍼에 더한다
+     * 종료 중이라 버퍼가 닫혔으면 바로 DB에 반영한다
+     */
+    public void add(Long articleId, long delta) {
+        activeAdds.increment();
+        try {
+            if (!closed) {
+                pendingLikes.add(articleId, delta);
+                return;
+            }
+        } finally {
+            activeAdds.decrement();
+        }
+        jdbcTemplate.update(FLUSH_SQL, delta, articleId);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감분 (반영 중인 값 포함)
+     */
+    public long pending(Long articleId) {
+        return flushing.getOrDefault(articleId, 0L) + pendingLikes.pending(articleId);
+    }
+
+    /**
+     * 게시글별로 합친 증감분을 한 트랜잭션의 배치 UPDATE로 반영
+     * 실패하면 증감분을 되돌려 다음 주기에 다시 시도한다
+     */
+    @Scheduled(fixedDelayString = "${article.likes.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = pendingLikes.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        flushing = deltas;
+        try {
+            // id 순으로 갱신해 다른 인스턴스의 배치와 행 잠금 순서가 엇갈리지 않게 한다
+            List<Object[]> args = new ArrayList<>(deltas.size());
+            new TreeMap<>(deltas).forEach((articleId, delta) -> args.add(new Object[]{delta, articleId}));
+            transactionOperations.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(FLUSH_SQL, args, FLUSH_BATCH_SIZE, (ps, arg) -> {
+                        ps.setLong(1, (Long) arg[0]);
+                        ps.setLong(2, (Long) arg[1]);
+                    }));
+            log.debug("Flushed like counts for {} articles", deltas.size());
+        } catch (RuntimeException e) {
+            pendingLikes.restore(deltas);
+            log.warn("Failed to flush like counts for {} articles - will retry", deltas.size(), e);
+        } finally {
+            flushing = Map.of();
+        }
+    }
+
+    /**
+     * 종료 시: 새 증감분은 바로 DB에 쓰도록 닫고, 진행 중인 add가 끝난 뒤 남은 증감분을 모두 반영
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+        while (activeAdds.sum() != 0) {
+            Thread.onSpinWait();
+        }
+        flush();
+        if (pendingLikes.totalPending() != 0) {
+            // 마지막 반영이 실패하면 한 번 더 시도
+            flush();
+        }
+    }
+}
+
+//좋아요 수 쓰기 버퍼 (article.likes.buffered=true일 때 사용)
+//게시글별 LongAdder에 증감분을 모아 두고 주기적으로 JDBC 배치 UPDATE 한 번으로 반영한다
@@ -0,0 +1,193 @@
+package com.blog.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class LikeCountReconciler {
+
+    private static final String CHUNK_SQL =
+            "SELECT id, like_count FROM \"article\" WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String COUNT_SQL =
+            "SELECT article_id, COUNT(*) FROM article_like WHERE article_id BETWEEN ? AND ? GROUP BY article_id";
+    // 앞의 두 조회는 서로 다른 시점이라 후보를 고르는 데만 쓰고,
+    // 실제 보정은 한 문장 안에서 다시 센 값으로 한다 (두 조회 사이에 좋아요/취소가 커밋되어도 어긋난 값을 쓰지 않는다)
+    private static final String FIX_SQL =
+            "UPDATE \"article\" a SET like_count = (SELECT COUNT(*) FROM article_like l WHERE l.article_id = a.id) " +
+            "WHERE a.id = ? AND a.like_count <> (SELECT COUNT(*) FROM article_like l WHERE l.article_id = a.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LikeCountBuffer likeCountBuffer;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final Counter driftFound;
+    private final Counter rowsFixed;
+    private final Counter skippedPending;
+    // 다음 주기에 이어서 볼 마지막 게시글 id (한 바퀴를 다 돌면 0으로 돌아간다)
+    private long cursor;
+
+    public LikeCountReconciler(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               LikeCountBuffer likeCountBuffer,
+                               MeterRegistry meterRegistry,
+                               @Value("${article.likes.reconcile.enabled:true}") boolean enabled,
+                               @Value("${article.likes.reconcile.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.likeCountBuffer = likeCountBuffer;
+        this.enabled = enabled;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.driftFound = Counter.builder("article.likes.reconcile.drift")
+                .description("like_count가 실제 좋아요 행 수와 달랐던 게시글 수")
+                .register(meterRegistry);
+        this.rowsFixed = Counter.builder("article.likes.reconcile.fixed")
+                .description("보정한 like_count 행 수")
+                .register(meterRegistry);
+        this.skippedPending = Counter.builder("article.likes.reconcile.skipped")
+                .description("버퍼에 반영 대기 중인 증감분이 있어 건너뛴 게시글 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주기마다 게시글 한 청크(id 순)만 비교/보정한다
+     * 한 번에 조금씩만 처리하므로 서비스 트래픽과 DB를 두고 경쟁하지 않고, 주기와 청크 크기로 속도를 조절한다
+     */
+    @Scheduled(fixedDelayString = "${article.likes.reconcile.interval-ms:10000}",
+               initialDelayString = "${article.likes.reconcile.initial-delay-ms:60000}")
+    public synchronized void reconcileNextChunk() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Map<Long, Long> stored = readChunk(cursor);
+            if (stored.isEmpty()) {
+                // 끝까지 봤으면 처음부터 다시
+                cursor = 0;
+                return;
+            }
+            reconcile(stored);
+            cursor = lastKey(stored);
+        } catch (RuntimeException e) {
+            log.warn("Like count reconciliation failed after article {} - will retry", cursor, e);
+        }
+    }
+
+    /**
+     * 게시글 한 건을 즉시 비교/보정 (관리자 요청용)
+     * @return 게시글이 없으면 empty
+     */
+    public Optional<Result> reconcileArticle(Long articleId) {
+        Map<Long, Long> stored = new HashMap<>();
+        jdbcTemplate.query("SELECT id, like_count FROM \"article\" WHERE id = ?",
+                rs -> {
+                    stored.put(rs.getLong(1), rs.getLong(2));
+                }, articleId);
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+        long actual = countLikes(articleId, articleId).getOrDefault(articleId, 0L);
+        long before = stored.get(articleId);
+        boolean pending = likeCountBuffer.pending(articleId) != 0;
+        boolean fixed = false;
+        if (before != actual && !pending) {
+            driftFound.increment();
+            fixed = fix(List.of(articleId)) > 0;
+        }
+        return Optional.of(new Result(articleId, before, actual, pending, fixed));
+    }
+
+    private Map<Long, Long> readChunk(long after) {
+        Map<Long, Long> stored = new LinkedHashMap<>();
+        jdbcTemplate.query(CHUNK_SQL, rs -> {
+            stored.put(rs.getLong(1), rs.getLong(2));
+        }, after, chunkSize);
+        return stored;
+    }
+
+    private Map<Long, Long> countLikes(long fromId, long toId) {
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(COUNT_SQL, rs -> {
+            counts.put(rs.getLong(1), rs.getLong(2));
+        }, fromId, toId);
+        return counts;
+    }
+
+    private void reconcile(Map<Long, Long> stored) {
+        Map<Long, Long> actual = countLikes(stored.keySet().iterator().next(), lastKey(stored));
+        // 차이가 보인 게시글 id (보정 시점에 다시 센다)
+        List<Long> drifted = new ArrayList<>();
+        stored.forEach((articleId, likeCount) -> {
+            long count = actual.getOrDefault(articleId, 0L);
+            if (likeCount == count) {
+                return;
+            }
+            if (likeCountBuffer.pending(articleId) != 0) {
+                // 버퍼 모드에서 아직 반영되지 않은 증감분이 있으면 차이가 정상이므로 다음 주기에 다시 본다
+                skippedPending.increment();
+                return;
+            }
+            drifted.add(articleId);
+        });
+        if (drifted.isEmpty()) {
+            return;
+        }
+        driftFound.increment(drifted.size());
+        int fixed = fix(drifted);
+        log.info("Like count drift in {} articles ({}..{}), fixed {}",
+                drifted.size(), stored.keySet().iterator().next(), lastKey(stored), fixed);
+    }
+
+    // 후보 행만 한 트랜잭션의 배치 UPDATE로 보정하고 실제로 바뀐 행 수를 반환
+    private int fix(List<Long> drifted) {
+        List<Object[]> args = new ArrayList<>(drifted.size());
+        drifted.forEach(articleId -> args.add(new Object[]{articleId}));
+        int[] results = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(FIX_SQL, args));
+        int fixed = 0;
+        for (int result : results) {
+            if (result > 0 || result == Statement.SUCCESS_NO_INFO) {
+                fixed++;
+            }
+        }
+        rowsFixed.increment(fixed);
+        return fixed;
+    }
+
+    private static long lastKey(Map<Long, Long> stored) {
+        long last = 0;
+        for (Long articleId : stored.keySet()) {
+            last = articleId;
+        }
+        return last;
+    }
+
+    /**
+     * 게시글 한 건의 보정 결과
+     * @param storedCount 보정 전 like_count
+     * @param actualCount 실제 좋아요 행 수
+     * @param pending 버퍼에 반영 대기 중인 증감분이 있어 보정하지 않았는지 여부
+     * @param fixed like_count를 보정했는지 여부
+     */
+    public record Result(Long articleId, long storedCount, long actualCount, boolean pending, boolean fixed) {
+    }
+}
+
+//like_count와 실제 article_like 행 수의 차이를 찾아 고치는 백그라운드 작업
+//게시글을 id 순 청크로 나눠 청크마다 GROUP BY 집계 한 번으로 후보를 찾고, 후보 행만 한 문장으로 다시 세어 보정한다
+//버퍼 모드에서 커밋 직후 증감분이 버퍼에 들어가기 전 순간에 보정되면 잠시 어긋날 수 있지만 다음 바퀴에서 다시 맞춰진다
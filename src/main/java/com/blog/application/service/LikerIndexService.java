@@ -0,0 +1,183 @@
+package com.blog.application.service;
+
+import com.blog.application.common.bitmap.LikerBitmapIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class LikerIndexService {
+
+    // 색인을 만들 때 한 번에 읽어오는 행 수
+    private static final int LOAD_FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final Object buildLock = new Object();
+    // 색인이 준비되기 전에는 null (조회는 DB로 처리)
+    private volatile LikerBitmapIndex index;
+    // 색인을 만드는 동안 커밋된 좋아요 변경 (다 만든 뒤 순서대로 다시 적용)
+    private List<Consumer<LikerBitmapIndex>> pendingMutations;
+    // 색인 메모리 사용량 (모든 비트맵을 도는 계산이라 주기적으로만 다시 잰다)
+    private final AtomicLong indexBytes = new AtomicLong();
+
+    public LikerIndexService(DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${article.likes.bitmap-index:false}") boolean enabled) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(LOAD_FETCH_SIZE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        Gauge.builder("article.likes.index.bytes", indexBytes, AtomicLong::get)
+                .description("좋아요 비트맵 색인의 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("article.likes.index.entries", this, service -> service.index == null ? 0 : service.index.likeTotal())
+                .description("좋아요 비트맵 색인에 담긴 좋아요 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 article / article_like 테이블로 색인을 만든다
+     * 만드는 동안 커밋된 변경은 모아 두었다가 적재가 끝난 뒤 다시 적용하므로 빠지는 변경이 없다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (buildLock) {
+            pendingMutations = new ArrayList<>();
+        }
+        LikerBitmapIndex built = new LikerBitmapIndex();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                jdbcTemplate.query("SELECT id FROM \"article\"", rs -> {
+                    built.addArticle(rs.getLong(1));
+                });
+                jdbcTemplate.query("SELECT article_id, user_id FROM article_like", rs -> {
+                    built.like(rs.getLong(1), rs.getLong(2));
+                });
+            });
+        } catch (RuntimeException e) {
+            // id가 int 범위를 넘거나 DB 오류로 만들지 못하면 계속 DB로 조회한다
+            log.error("Failed to build liker bitmap index - like lookups will use the database", e);
+            synchronized (buildLock) {
+                pendingMutations = null;
+            }
+            return;
+        }
+        synchronized (buildLock) {
+            pendingMutations.forEach(mutation -> applyTo(built, mutation));
+            log.info("Liker bitmap index ready: {} likes ({} replayed changes), {} bytes",
+                    built.likeTotal(), pendingMutations.size(), built.sizeInBytes());
+            pendingMutations = null;
+            built.optimize();
+            index = built;
+            indexBytes.set(built.sizeInBytes());
+        }
+    }
+
+    // 게이지를 읽을 때마다 읽기 락을 잡고 모든 비트맵을 돌지 않도록 크기는 여기서만 잰다
+    @Scheduled(fixedDelayString = "${article.likes.index.size-refresh-ms:60000}")
+    public void refreshSize() {
+        LikerBitmapIndex current = index;
+        if (current != null) {
+            indexBytes.set(current.sizeInBytes());
+        }
+    }
+
+    /**
+     * 준비된 색인 (비활성화됐거나 아직 만드는 중이면 empty)
+     */
+    public Optional<LikerBitmapIndex> current() {
+        return Optional.ofNullable(index);
+    }
+
+    public void addArticle(Long articleId) {
+        applyAfterCommit(index -> index.addArticle(articleId));
+    }
+
+    public void removeArticle(Long articleId) {
+        applyAfterCommit(index -> index.removeArticle(articleId));
+    }
+
+    public void removeUser(Long userId) {
+        applyAfterCommit(index -> index.removeUser(userId));
+    }
+
+    public void like(Long articleId, Long userId) {
+        applyAfterCommit(index -> index.like(articleId, userId));
+    }
+
+    public void unlike(Long articleId, Long userId) {
+        applyAfterCommit(index -> index.unlike(articleId, userId));
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에만 반영한다 (롤백된 변경이 색인에 남지 않도록)
+    private void applyAfterCommit(Consumer<LikerBitmapIndex> mutation) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(mutation);
+                }
+            });
+        } else {
+            apply(mutation);
+        }
+    }
+
+    private void apply(Consumer<LikerBitmapIndex> mutation) {
+        LikerBitmapIndex current = index;
+        if (current == null) {
+            synchronized (buildLock) {
+                current = index;
+                if (current == null) {
+                    // 만드는 중이면 모아 두고, 만들기 전이면 적재 시 DB에서 읽히므로 버린다
+                    if (pendingMutations != null) {
+                        pendingMutations.add(mutation);
+                    }
+                    return;
+                }
+            }
+        }
+        applyTo(current, mutation);
+    }
+
+    private static void applyTo(LikerBitmapIndex index, Consumer<LikerBitmapIndex> mutation) {
+        try {
+            mutation.accept(index);
+        } catch (ArithmeticException e) {
+            log.warn("Id out of range for liker bitmap index - change not indexed", e);
+        }
+    }
+}
+
+//단일 서버(Redis 없이) 운영용 좋아요 비트맵 색인
+//article.likes.bitmap-index=true일 때 기동 시 만들어지고, 좋아요 추가/취소와 게시글/사용자 삭제가 커밋되면 반영된다
+//좋아요 여부와 두 사용자가 함께 좋아요한 게시글을 SQL 없이 조회한다
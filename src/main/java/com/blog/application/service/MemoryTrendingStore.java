@@ -0,0 +1,47 @@
+package com.blog.application.service;
+
+import com.blog.application.common.ranking.DecayingTopK;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "article.trending.store", havingValue = "memory", matchIfMissing = true)
+public class MemoryTrendingStore implements TrendingStore {
+
+    private final DecayingTopK ranking;
+
+    public MemoryTrendingStore(MeterRegistry meterRegistry,
+                               @Value("${article.trending.capacity:1000}") int capacity,
+                               @Value("${article.trending.half-life:6h}") Duration halfLife) {
+        this.ranking = new DecayingTopK(capacity, halfLife.toMillis(), System.currentTimeMillis());
+        Gauge.builder("article.trending.tracked", ranking, DecayingTopK::size)
+                .description("인기 게시글 랭킹에서 추적 중인 게시글 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void add(Long articleId, double weight, long nowMillis) {
+        ranking.add(articleId, weight, nowMillis);
+    }
+
+    @Override
+    public void remove(Long articleId) {
+        ranking.remove(articleId);
+    }
+
+    @Override
+    public List<Long> top(int limit, long nowMillis) {
+        return ranking.top(limit, nowMillis).stream()
+                .map(DecayingTopK.Entry::id)
+                .toList();
+    }
+}
+
+//인스턴스 메모리에 유지하는 인기 게시글 랭킹 (기본 구현)
+//재시작하면 초기화되며, 인스턴스가 여러 대면 각자 받은 이벤트만 반영된다
@@ -0,0 +1,255 @@
+package com.blog.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class ReactionSetCache {
+
+    // DB에서 채운 집합임을 표시하는 멤버 (이메일에는 NUL 문자가 들어갈 수 없다)
+    static final String LOADED_MARKER = "\u0000loaded";
+    // 채워 넣을 때 한 번에 SADD 하는 멤버 수
+    private static final int BACKFILL_CHUNK_SIZE = 1000;
+
+    /**
+     * 채워진 집합인지와 포함 여부를 한 번에 조회
+     * 채워지지 않은 집합이면 -1, 아니면 포함 여부(0/1)
+     * 개수는 집합 크기(SCARD)로 세지 않는다 (TTL 동안 어긋날 수 있어 게시글의 카운터 컬럼 하나만 기준으로 쓴다)
+     */
+    private static final RedisScript<Long> MEMBER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[2]) == 0 then return -1 end " +
+            "return redis.call('SISMEMBER', KEYS[1], ARGV[1])",
+            Long.class);
+
+    /**
+     * 토글 반영 (SADD 또는 SREM) 후 만료 시간 갱신
+     * 세대 번호(KEYS[2])를 올려 이 변경 전에 DB를 읽은 채우기 작업이 덮어쓰지 못하게 한다
+     */
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call(ARGV[2], KEYS[1], ARGV[1]) " +
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "return redis.call('EXPIRE', KEYS[1], ARGV[3])",
+            Long.class);
+
+    /**
+     * DB를 읽기 전에 본 세대 번호(ARGV[1])가 그대로일 때만 멤버를 SADD
+     * 그 사이 토글이 반영됐으면 0을 반환하고 아무것도 쓰지 않는다
+     */
+    private static final RedisScript<Long> BACKFILL_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "redis.call('SADD', KEYS[1], unpack(ARGV, 3)) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 집합을 지우고 세대 번호를 올려 진행 중인 채우기 작업도 버리게 한다
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('INCR', KEYS[2]) " +
+            "return redis.call('EXPIRE', KEYS[2], ARGV[1])",
+            Long.class);
+
+    private final ObjectProvider<StringRedisTemplate> redisTemplate;
+    private final boolean enabled;
+    private final Duration ttl;
+
+    public ReactionSetCache(ObjectProvider<StringRedisTemplate> redisTemplate,
+                            @Value("${article.reactions.redis-cache:false}") boolean enabled,
+                            @Value("${article.reactions.ttl:1h}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 사용자의 반응(좋아요/북마크) 여부를 Redis 한 번의 호출로 조회
+     * 집합이 아직 없으면 loader로 DB에서 반응한 사용자 이메일을 읽어 채운다
+     * @param loader 게시글에 반응한 사용자 이메일 목록 (게시글이 없으면 empty)
+     * @return 캐시를 쓰지 않거나 Redis를 사용할 수 없으면 empty (호출 측에서 DB로 조회)
+     */
+    public Optional<Boolean> isMember(Reaction reaction, Long articleId, String userEmail,
+                                      Supplier<Optional<List<String>>> loader) {
+        StringRedisTemplate template = enabled ? redisTemplate.getIfAvailable() : null;
+        if (template == null) {
+            return Optional.empty();
+        }
+        String key = keyOf(reaction, articleId);
+        try {
+            Optional<Boolean> member = readMembership(template, key, userEmail);
+            if (member.isPresent()) {
+                return member;
+            }
+            // 세대 번호는 DB를 읽기 전에 봐야 그 뒤의 토글을 놓치지 않는다
+            String generation = Optional.ofNullable(template.opsForValue().get(generationKeyOf(key))).orElse("0");
+            Optional<List<String>> members = loader.get();
+            if (members.isEmpty()) {
+                return Optional.empty();
+            }
+            if (!backfill(template, key, generation, members.get())) {
+                // 채우는 사이 토글이 반영됐으면 이번 조회는 DB로 처리하고 다음 조회 때 다시 채운다
+                return Optional.empty();
+            }
+            return readMembership(template, key, userEmail);
+        } catch (DataAccessException e) {
+            log.warn("Redis unavailable for {} status of article {} - falling back to DB", reaction, articleId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 반응 추가/취소를 트랜잭션 커밋 후 집합에 반영 (실패해도 TTL이 지나면 DB에서 다시 채워진다)
+     */
+    public void update(Reaction reaction, Long articleId, String userEmail, boolean added) {
+        StringRedisTemplate template = enabled ? redisTemplate.getIfAvailable() : null;
+        if (template == null) {
+            return;
+        }
+        Runnable apply = () -> {
+            try {
+                String key = keyOf(reaction, articleId);
+                template.execute(UPDATE_SCRIPT, List.of(key, generationKeyOf(key)),
+                        userEmail, added ? "SADD" : "SREM", String.valueOf(ttl.toSeconds()));
+            } catch (DataAccessException e) {
+                // 반영하지 못한 집합은 지워서 다음 조회 때 DB에서 다시 채우게 한다
+                log.warn("Failed to update {} set of article {}", reaction, articleId, e);
+                evictQuietly(template, reaction, articleId);
+            }
+        };
+        runAfterCommit(apply);
+    }
+
+    /**
+     * 사용자 탈퇴처럼 여러 게시글의 반응이 한꺼번에 지워질 때, 트랜잭션 커밋 후 해당 집합들을 제거
+     */
+    public void evict(Reaction reaction, Collection<Long> articleIds) {
+        StringRedisTemplate template = enabled ? redisTemplate.getIfAvailable() : null;
+        if (template == null || articleIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(articleIds);
+        runAfterCommit(() -> ids.forEach(articleId -> evictQuietly(template, reaction, articleId)));
+    }
+
+    /**
+     * 게시글 삭제 시 집합 제거
+     */
+    public void evict(Long articleId) {
+        StringRedisTemplate template = enabled ? redisTemplate.getIfAvailable() : null;
+        if (template == null) {
+            return;
+        }
+        for (Reaction reaction : Reaction.values()) {
+            evictQuietly(template, reaction, articleId);
+        }
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private Optional<Boolean> readMembership(StringRedisTemplate template, String key, String userEmail) {
+        Long result = template.execute(MEMBER_SCRIPT, List.of(key), userEmail, LOADED_MARKER);
+        if (result == null || result < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(result == 1);
+    }
+
+    // 토글로 먼저 만들어진 일부 멤버가 있어도 SADD라 중복되지 않으며, 마지막에 표시 멤버를 넣어 완성된 집합으로 만든다
+    // 도중에 세대 번호가 바뀌면 표시 멤버를 넣지 않고 멈춘다 (이미 넣은 멤버는 그 뒤의 SREM이 지웠거나 아직 유효하다)
+    private boolean backfill(StringRedisTemplate template, String key, String generation, List<String> members) {
+        List<String> keys = List.of(key, generationKeyOf(key));
+        String ttlSeconds = String.valueOf(ttl.toSeconds());
+        for (int from = 0; from < members.size(); from += BACKFILL_CHUNK_SIZE) {
+            List<String> chunk = members.subList(from, Math.min(from + BACKFILL_CHUNK_SIZE, members.size()));
+            if (!addIfUnchanged(template, keys, generation, ttlSeconds, chunk)) {
+                return false;
+            }
+        }
+        return addIfUnchanged(template, keys, generation, ttlSeconds, List.of(LOADED_MARKER));
+    }
+
+    private boolean addIfUnchanged(StringRedisTemplate template, List<String> keys, String generation,
+                                   String ttlSeconds, List<String> members) {
+        Object[] args = new Object[members.size() + 2];
+        args[0] = generation;
+        args[1] = ttlSeconds;
+        for (int i = 0; i < members.size(); i++) {
+            args[i + 2] = members.get(i);
+        }
+        Long added = template.execute(BACKFILL_SCRIPT, keys, args);
+        return added != null && added == 1;
+    }
+
+    private void evictQuietly(StringRedisTemplate template, Reaction reaction, Long articleId) {
+        try {
+            String key = keyOf(reaction, articleId);
+            template.execute(EVICT_SCRIPT, List.of(key, generationKeyOf(key)), String.valueOf(ttl.toSeconds()));
+        } catch (DataAccessException e) {
+            log.debug("Failed to evict {} set of article {}", reaction, articleId, e);
+        }
+    }
+
+    private static String keyOf(Reaction reaction, Long articleId) {
+        return "article:" + articleId + ":" + reaction.getKeySuffix();
+    }
+
+    private static String generationKeyOf(String key) {
+        return key + ":gen";
+    }
+
+    public enum Reaction {
+        LIKE("likers"),
+        BOOKMARK("bookmarkers");
+
+        private final String keySuffix;
+
+        Reaction(String keySuffix) {
+            this.keySuffix = keySuffix;
+        }
+
+        public String getKeySuffix() {
+            return keySuffix;
+        }
+    }
+
+    /**
+     * @param member 사용자가 반응했는지 여부
+     * @param count 게시글의 반응 수
+     */
+    public record ReactionStatus(boolean member, long count) {
+    }
+}
+
+//게시글별 좋아요/북마크 사용자 집합 캐시 (Redis SET, article.reactions.redis-cache=true일 때 사용)
+//포함 여부 확인을 Lua 스크립트 한 번으로 처리하고, 집합이 없으면 DB에서 지연 로딩한다
+//반응 수는 여기서 세지 않고 게시글의 카운터 컬럼을 기준으로 한다 (엔드포인트마다 개수가 달라 보이지 않게)
+//Redis를 사용할 수 없으면 호출 측이 기존 DB 조회로 처리한다
+//DB를 읽는 사이 토글이 반영되면 세대 번호로 알아채고 채우기를 버린다 (늦게 도착한 SADD가 취소를 덮어쓰지 않게)
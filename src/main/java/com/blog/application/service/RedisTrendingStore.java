@@ -0,0 +1,109 @@
+package com.blog.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@Component
+@ConditionalOnProperty(name = "article.trending.store", havingValue = "redis")
+public class RedisTrendingStore implements TrendingStore {
+
+    private static final String KEY_PREFIX = "trending:articles:";
+    private static final String MIGRATED_KEY_PREFIX = "trending:migrated:";
+    // epoch 구간 하나의 길이 (반감기 배수), 구간 안에서 점수는 최대 2^EPOCH_HALF_LIVES배까지 커진다
+    private static final int EPOCH_HALF_LIVES = 16;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ZSetOperations<String, String> zSetOperations;
+    private final int capacity;
+    private final double halfLifeMillis;
+    private final long epochLengthMillis;
+    // 이 인스턴스가 이전 구간 점수를 이미 옮긴 것으로 확인한 마지막 epoch
+    private volatile long migratedEpoch = Long.MIN_VALUE;
+
+    public RedisTrendingStore(StringRedisTemplate redisTemplate,
+                              @Value("${article.trending.capacity:1000}") int capacity,
+                              @Value("${article.trending.half-life:6h}") Duration halfLife) {
+        this.redisTemplate = redisTemplate;
+        this.zSetOperations = redisTemplate.opsForZSet();
+        this.capacity = capacity;
+        this.halfLifeMillis = halfLife.toMillis();
+        this.epochLengthMillis = halfLife.toMillis() * EPOCH_HALF_LIVES;
+    }
+
+    /**
+     * 점수는 현재 epoch 구간 기준으로 키운 값으로 ZINCRBY 한다 (DecayingTopK와 같은 방식)
+     * 구간이 바뀌면 이전 구간 정렬 집합을 2^-EPOCH_HALF_LIVES 가중치로 합쳐 옮긴다
+     */
+    @Override
+    public void add(Long articleId, double weight, long nowMillis) {
+        long epoch = epochOf(nowMillis);
+        String key = keyOf(epoch);
+        migrateIfNeeded(epoch);
+
+        double delta = weight * Math.pow(2, (nowMillis - epoch) / halfLifeMillis);
+        Double updated = zSetOperations.incrementScore(key, articleId.toString(), delta);
+        if (updated != null && updated <= 0) {
+            zSetOperations.remove(key, articleId.toString());
+        }
+        // 하위 항목을 잘라 크기를 제한 (점수 낮은 순으로 capacity개를 넘는 만큼 삭제)
+        zSetOperations.removeRange(key, 0, -(capacity + 1L));
+        redisTemplate.expire(key, Duration.ofMillis(epochLengthMillis * 2));
+    }
+
+    @Override
+    public void remove(Long articleId) {
+        zSetOperations.remove(keyOf(epochOf(System.currentTimeMillis())), articleId.toString());
+    }
+
+    @Override
+    public List<Long> top(int limit, long nowMillis) {
+        long epoch = epochOf(nowMillis);
+        migrateIfNeeded(epoch);
+        Set<String> ids = zSetOperations.reverseRange(keyOf(epoch), 0, limit - 1L);
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream()
+                .filter(Objects::nonNull)
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    // 구간당 한 번만 옮기도록 SETNX로 인스턴스 간 조정, 현재 구간에 이미 쌓인 점수는 그대로 더해진다
+    private void migrateIfNeeded(long epoch) {
+        if (migratedEpoch == epoch) {
+            return;
+        }
+        String key = keyOf(epoch);
+        String previousKey = keyOf(epoch - epochLengthMillis);
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(MIGRATED_KEY_PREFIX + epoch, "1", Duration.ofMillis(epochLengthMillis * 2));
+        if (Boolean.TRUE.equals(acquired) && Boolean.TRUE.equals(redisTemplate.hasKey(previousKey))) {
+            zSetOperations.unionAndStore(key, List.of(previousKey), key, Aggregate.SUM,
+                    Weights.of(1, Math.pow(2, -EPOCH_HALF_LIVES)));
+            redisTemplate.expire(key, Duration.ofMillis(epochLengthMillis * 2));
+        }
+        migratedEpoch = epoch;
+    }
+
+    private long epochOf(long nowMillis) {
+        return Math.floorDiv(nowMillis, epochLengthMillis) * epochLengthMillis;
+    }
+
+    private static String keyOf(long epoch) {
+        return KEY_PREFIX + epoch;
+    }
+}
+
+//Redis 정렬 집합(ZSET)에 유지하는 인기 게시글 랭킹
+//여러 인스턴스가 같은 랭킹을 공유하며, article.trending.store=redis일 때 사용된다
@@ -0,0 +1,97 @@
+package com.blog.application.service;
+
+import com.blog.application.repository.jpa.ArticleRepository;
+import com.blog.application.response.ArticleSummaryDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class TrendingService {
+
+    private final TrendingStore trendingStore;
+    private final ArticleRepository articleRepository;
+    private final double likeWeight;
+    private final double commentWeight;
+
+    public TrendingService(TrendingStore trendingStore,
+                           ArticleRepository articleRepository,
+                           @Value("${article.trending.like-weight:1.0}") double likeWeight,
+                           @Value("${article.trending.comment-weight:2.0}") double commentWeight) {
+        this.trendingStore = trendingStore;
+        this.articleRepository = articleRepository;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+    }
+
+    public void recordLike(Long articleId) {
+        record(articleId, likeWeight);
+    }
+
+    public void recordUnlike(Long articleId) {
+        record(articleId, -likeWeight);
+    }
+
+    public void recordComment(Long articleId) {
+        record(articleId, commentWeight);
+    }
+
+    public void remove(Long articleId) {
+        afterCommit(() -> trendingStore.remove(articleId));
+    }
+
+    /**
+     * 인기 게시글 요약 목록 (감쇠 점수 높은 순)
+     * 랭킹에서 상위 id만 읽고 요약은 PK IN 조회로 가져오므로 집계 쿼리가 없다
+     */
+    public List<ArticleSummaryDTO> getTrending(Integer limit) {
+        int size = ArticleService.normalizePageSize(limit);
+        List<Long> ids = trendingStore.top(size, System.currentTimeMillis());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ArticleSummaryDTO> summaries = articleRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(ArticleSummaryDTO::getArticleId, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void record(Long articleId, double weight) {
+        afterCommit(() -> trendingStore.add(articleId, weight, System.currentTimeMillis()));
+    }
+
+    // 롤백된 변경이 랭킹에 남지 않도록 커밋 이후 반영하고, 랭킹 갱신 실패가 본 요청을 실패시키지 않게 한다
+    private void afterCommit(Runnable update) {
+        Runnable safeUpdate = () -> {
+            try {
+                update.run();
+            } catch (RuntimeException e) {
+                log.warn("Failed to update trending ranking", e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeUpdate.run();
+                }
+            });
+        } else {
+            safeUpdate.run();
+        }
+    }
+}
+
+//인기 게시글(트렌딩) 서비스
+//좋아요와 댓글 이벤트로 시간 감쇠 점수를 증분 갱신하고, 상위 K개를 조회 시 그대로 읽어 반환한다
@@ -0,0 +1,22 @@
+package com.blog.application.service;
+
+import java.util.List;
+
+/**
+ * 인기 게시글 랭킹 저장소
+ * article.trending.store 설정으로 메모리(기본) 또는 Redis 정렬 집합 구현을 선택한다
+ */
+public interface TrendingStore {
+
+    /**
+     * 게시글 점수에 가중치를 더한다 (음수면 감소)
+     */
+    void add(Long articleId, double weight, long nowMillis);
+
+    void remove(Long articleId);
+
+    /**
+     * 감쇠 점수 상위 limit개의 게시글 id (높은 순)
+     */
+    List<Long> top(int limit, long nowMillis);
+}
@@ -0,0 +1,59 @@
+package com.blog.application.service;
+
+import com.blog.application.repository.jpa.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+@Service
+public class UserIdCache {
+
+    private static final String CACHE_NAME = "user.id";
+
+    private final Cache<String, Long> userIds;
+    private final UserRepository userRepository;
+
+    public UserIdCache(UserRepository userRepository,
+                       MeterRegistry meterRegistry,
+                       @Value("${user.id-cache.max-size:100000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.userIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userIds, CACHE_NAME);
+    }
+
+    /**
+     * 이메일로 사용자 id 조회 (캐시 우선, 없는 사용자는 캐시하지 않음)
+     */
+    public Optional<Long> getId(String email) {
+        return Optional.ofNullable(userIds.get(email, key -> userRepository.findIdByEmail(key).orElse(null)));
+    }
+
+    /**
+     * 사용자 탈퇴 시 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 비워서, 커밋 전에 다시 읽힌 id가 남지 않게 한다
+     */
+    public void evict(String email) {
+        userIds.invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userIds.invalidate(email);
+                }
+            });
+        }
+    }
+}
+
+//인증된 사용자 이메일을 사용자 id로 바꾸는 로컬 캐시
+//이메일은 변경되지 않으므로 만료 없이 크기로만 제한하고 탈퇴 시 무효화한다
@@ -3,6 +3,8 @@ package com.blog.application.service;
 import com.blog.application.entity.Article;
 import com.blog.application.entity.Comment;
 import com.blog.application.entity.User;
+import com.blog.application.repository.jpa.ArticleBookmarkRepository;
+import com.blog.application.repository.jpa.ArticleLikeRepository;
 import com.blog.application.repository.jpa.ArticleRepository;
 import com.blog.application.repository.jpa.CommentRepository;
 import com.blog.application.repository.jpa.UserRepository;
@@ -21,17 +23,35 @@ public class UserService {
     private final ArticleRepository articleRepository;
     private final ArticleService articleService;
     private final CommentRepository commentRepository;
+    private final ArticleLikeRepository articleLikeRepository;
+    private final ArticleBookmarkRepository articleBookmarkRepository;
+    private final ArticleCacheService articleCacheService;
+    private final LikerIndexService likerIndexService;
+    private final ReactionSetCache reactionSetCache;
+    private final UserIdCache userIdCache;
     // BCrypt를 이용해 비밀번호 암호화/검증
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
     public UserService(UserRepository userRepository,
                        ArticleRepository articleRepository,
                        ArticleService articleService,
-                       CommentRepository commentRepository) {
+                       CommentRepository commentRepository,
+                       ArticleLikeRepository articleLikeRepository,
+                       ArticleBookmarkRepository articleBookmarkRepository,
+                       ArticleCacheService articleCacheService,
+                       LikerIndexService likerIndexService,
+                       ReactionSetCache reactionSetCache,
+                       UserIdCache userIdCache) {
         this.userRepository = userRepository;
         this.articleRepository = articleRepository;
         this.articleService = articleService;
         this.commentRepository = commentRepository;
+        this.articleLikeRepository = articleLikeRepository;
+        this.articleBookmarkRepository = articleBookmarkRepository;
+        this.articleCacheService = articleCacheService;
+        this.likerIndexService = likerIndexService;
+        this.reactionSetCache = reactionSetCache;
+        this.userIdCache = userIdCache;
     }
 
     public List<User> getAllUsers() {
@@ -42,6 +62,10 @@ public class UserService {
         return userRepository.findById(id);
     }
 
+    public boolean existsById(Long id) {
+        return userRepository.existsById(id);
+    }
+
     public Optional<User> getUserByEmail(String email) {
         return userRepository.findByEmail(email);
     }
@@ -71,11 +95,29 @@ public class UserService {
 
     @Transactional
     public void deleteUser(User user) {
+        // 다른 게시글에 남긴 댓글이 함께 지워지므로, 삭제 전에 해당 게시글들의 댓글 수를 한 번에 차감
+        List<Long> commentedArticleIds = commentRepository.findArticleIdsByUserId(user.getId());
+        articleRepository.subtractCommentCountsOfUser(user.getId());
+        commentedArticleIds.forEach(articleCacheService::evict);
+        // 북마크도 FK ON DELETE CASCADE로 함께 지워지므로 북마크한 게시글들의 bookmark_count를 미리 차감
+        List<Long> bookmarkedArticleIds = articleBookmarkRepository.findArticleIdsByUserId(user.getId());
+        articleRepository.subtractBookmarkCountsOfUser(user.getId());
+        // 좋아요도 마찬가지로 함께 지워지므로 좋아요한 게시글들의 like_count를 미리 차감하고 캐시도 비운다
+        List<Long> likedArticleIds = articleLikeRepository.findArticleIdsByUserId(user.getId());
+        articleRepository.subtractLikeCountsOfUser(user.getId());
+        likedArticleIds.forEach(articleCacheService::evict);
+
         var articles = articleRepository.findAllByUserId(user.getId());
         for (Article article : articles) {
             articleService.deleteArticle(article);
         }
         commentRepository.deleteAllByUserId(user.getId());
         userRepository.delete(user);
+        // 좋아요는 FK ON DELETE CASCADE로 함께 지워지므로 색인에서도 사용자의 좋아요를 모두 뺀다
+        likerIndexService.removeUser(user.getId());
+        // Redis의 좋아요/북마크 사용자 집합에도 이메일이 남아 있으므로 커밋 후 해당 집합을 지워 DB에서 다시 채우게 한다
+        reactionSetCache.evict(ReactionSetCache.Reaction.LIKE, likedArticleIds);
+        reactionSetCache.evict(ReactionSetCache.Reaction.BOOKMARK, bookmarkedArticleIds);
+        userIdCache.evict(user.getEmail());
     }
 }
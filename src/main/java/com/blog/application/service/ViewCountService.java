@@ -0,0 +1,175 @@
+package com.blog.application.service;
+
+import com.blog.application.common.counter.DeltaCounter;
+import com.blog.application.repository.jpa.ArticleRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Service
+public class ViewCountService {
+
+    private static final String FLUSH_SQL = "UPDATE \"article\" SET view_count = view_count + ? WHERE id = ?";
+    // 한 번의 JDBC 배치로 보내는 UPDATE 수
+    private static final int FLUSH_BATCH_SIZE = 500;
+    // 반영과 겹쳐 다시 읽는 횟수 (넘으면 진행 중인 반영이 끝나길 기다렸다가 읽는다)
+    private static final int READ_ATTEMPTS = 3;
+
+    private final ArticleRepository articleRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DeltaCounter pendingViews = new DeltaCounter();
+    private final Counter flushFailures;
+    // 꺼내서 DB에 반영 중인 증가분 (반영 중에도 조회수가 줄어 보이지 않도록 함께 더한다)
+    private volatile Map<Long, Long> flushing = Map.of();
+    // 반영 세대 번호: 증가분을 꺼내는 동안과 커밋 직전부터 flushing을 비울 때까지는 홀수
+    // 조회는 읽는 동안 번호가 바뀌지 않았을 때만 결과를 쓴다 (DB 값과 flushing이 겹치거나 빠지는 순간을 피함)
+    private final AtomicLong flushGeneration = new AtomicLong();
+    // 가상 스레드에서 조회해도 캐리어 스레드를 붙잡지 않도록 synchronized 대신 ReentrantLock을 쓴다
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile long lastFlushMillis = System.currentTimeMillis();
+
+    public ViewCountService(ArticleRepository articleRepository, JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushFailures = Counter.builder("article.views.flush.failures")
+                .description("조회수 반영 실패 횟수")
+                .register(meterRegistry);
+        Gauge.builder("article.views.pending", pendingViews, DeltaCounter::totalPending)
+                .description("아직 DB에 반영되지 않은 조회수 증가분")
+                .register(meterRegistry);
+        Gauge.builder("article.views.flush.lag", this, ViewCountService::flushLagSeconds)
+                .description("마지막으로 조회수를 반영한 뒤 지난 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회수 1 증가 (메모리에만 더하고 DB 반영은 주기적으로 모아서 한다)
+     */
+    public void increment(Long articleId) {
+        pendingViews.increment(articleId);
+    }
+
+    /**
+     * 조회수 = DB에 반영된 값 + 반영 중인 증가분 + 아직 반영되지 않은 증가분
+     * flushing은 DB를 읽기 전에 보고, 그 사이 반영 세대가 바뀌었으면 다시 읽는다
+     */
+    public Long getViewCount(Long articleId) {
+        for (int attempt = 0; attempt < READ_ATTEMPTS; attempt++) {
+            long generation = flushGeneration.get();
+            if ((generation & 1) == 1) {
+                Thread.onSpinWait();
+                continue;
+            }
+            long inFlight = flushing.getOrDefault(articleId, 0L);
+            Optional<Long> persisted = articleRepository.findViewCountById(articleId);
+            long pending = pendingViews.pending(articleId);
+            if (flushGeneration.get() == generation) {
+                return persisted.map(count -> count + inFlight + pending).orElse(null);
+            }
+        }
+        // 반영 중에는 flushing이 비어 있지 않으므로, 반영이 끝나길 기다렸다가 DB 값 + 남은 증가분으로 읽는다
+        flushLock.lock();
+        try {
+            return articleRepository.findViewCountById(articleId)
+                    .map(persisted -> persisted + pendingViews.pending(articleId))
+                    .orElse(null);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 모인 증가분을 게시글별로 합쳐 한 번의 배치 UPDATE로 반영
+     * 실패하면 증가분을 되돌려 다음 주기에 다시 시도한다
+     */
+    @Scheduled(fixedDelayString = "${article.views.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushLocked() {
+        // 꺼낸 증가분이 pending에서도 flushing에서도 보이지 않는 순간이 있으므로 그동안은 세대를 홀수로 둔다
+        flushGeneration.incrementAndGet();
+        Map<Long, Long> deltas = pendingViews.drain();
+        flushing = deltas;
+        flushGeneration.incrementAndGet();
+        if (deltas.isEmpty()) {
+            lastFlushMillis = System.currentTimeMillis();
+            return;
+        }
+        boolean flushed = false;
+        try {
+            // id 순으로 갱신해 다른 인스턴스의 배치와 행 잠금 순서가 엇갈리지 않게 한다
+            List<Object[]> args = new ArrayList<>(deltas.size());
+            new TreeMap<>(deltas).forEach((articleId, delta) -> args.add(new Object[]{delta, articleId}));
+            // 일부 배치만 반영된 채 되돌리면 두 번 더해지므로 한 트랜잭션으로 묶는다
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, args, FLUSH_BATCH_SIZE, (ps, arg) -> {
+                    ps.setLong(1, (Long) arg[0]);
+                    ps.setLong(2, (Long) arg[1]);
+                });
+                // 커밋되는 순간부터는 DB 값에 flushing이 이미 들어 있으므로 커밋 직전에 세대를 홀수로 바꾼다
+                flushGeneration.incrementAndGet();
+            });
+            flushed = true;
+            lastFlushMillis = System.currentTimeMillis();
+            log.debug("Flushed view counts for {} articles", deltas.size());
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            log.warn("Failed to flush view counts for {} articles - will retry", deltas.size(), e);
+        } finally {
+            // 배치가 실패해 커밋 직전까지 가지 못했다면 여기서 홀수로 바꾼다
+            if ((flushGeneration.get() & 1) == 0) {
+                flushGeneration.incrementAndGet();
+            }
+            if (!flushed) {
+                pendingViews.restore(deltas);
+            }
+            flushing = Map.of();
+            flushGeneration.incrementAndGet();
+        }
+    }
+
+    // 삭제된 게시글의 남은 증가분은 반영할 대상이 없으므로 버린다
+    public void remove(Long articleId) {
+        pendingViews.remove(articleId);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private double flushLagSeconds() {
+        return (System.currentTimeMillis() - lastFlushMillis) / 1000.0;
+    }
+}
+
+//게시글 조회수 서비스 (write-behind)
+//조회 시에는 메모리 카운터만 올리고, 주기적으로 게시글별 증가분을 합쳐 JDBC 배치 UPDATE로 반영한다
+//조회수를 읽을 때는 반영 세대 번호로 반영과 겹쳤는지 확인해 두 번 세거나 빠뜨리지 않는다
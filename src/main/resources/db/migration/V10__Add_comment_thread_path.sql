@@ -0,0 +1,13 @@
+-- 댓글 스레드(답글) 지원: 부모 댓글 id와 materialized path 컬럼 추가
+-- path는 루트부터 자기 자신까지의 id를 10자리 0 채움 + '/'로 이어 붙인 값 (예: 0000000001/0000000007/)
+-- 같은 스레드의 댓글은 path 접두사가 같으므로 (article_id, path) 인덱스 범위 스캔 한 번으로 서브트리 전체를 트리 순서대로 읽는다
+-- parent_id는 외래키를 두지 않는다 (서브트리 삭제는 path 접두사로 한 번에 처리)
+
+ALTER TABLE comment ADD COLUMN parent_id BIGINT;
+ALTER TABLE comment ADD COLUMN path VARCHAR(255);
+ALTER TABLE comment ADD COLUMN depth INT DEFAULT 0 NOT NULL;
+
+-- 기존 댓글은 모두 루트 댓글
+UPDATE comment SET path = LPAD(CAST(id AS VARCHAR), 10, '0') || '/';
+
+CREATE INDEX idx_comment_article_id_path ON comment(article_id, path);
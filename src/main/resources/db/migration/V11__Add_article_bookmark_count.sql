@@ -0,0 +1,13 @@
+-- 게시글 테이블에 북마크 개수 컬럼 추가 (like_count와 같은 방식의 비정규화 카운터)
+-- 북마크 수를 조회할 때마다 article_bookmark를 세지 않도록 북마크 추가/취소 시 원자적 UPDATE로 유지한다
+
+ALTER TABLE "article" ADD COLUMN bookmark_count BIGINT DEFAULT 0 NOT NULL;
+
+-- 기존 북마크 수로 채우기
+UPDATE "article" SET bookmark_count = (SELECT COUNT(*) FROM article_bookmark b WHERE b.article_id = "article".id);
+
+-- 내 북마크 목록(키셋 페이지네이션) 최적화
+-- (user_id, created_at, id) 복합 인덱스로 사용자 조건 + 최신순 정렬을 인덱스 범위 스캔으로 처리
+-- created_at이 비어 있으면 커서 비교가 안 되므로 먼저 채운다
+UPDATE article_bookmark SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+CREATE INDEX idx_article_bookmark_user_id_created_at_id ON article_bookmark(user_id, created_at, id);
@@ -0,0 +1,4 @@
+-- 게시글 낙관적 잠금(@Version)용 버전 컬럼 추가
+-- 조건부 요청(ETag / If-None-Match / If-Match)의 기준 값으로도 사용
+
+ALTER TABLE "article" ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
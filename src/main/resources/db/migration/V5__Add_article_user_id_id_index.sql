@@ -0,0 +1,4 @@
+-- 작성자별 게시글 목록(키셋 페이지네이션) 최적화
+-- (user_id, id) 복합 인덱스로 작성자 조건 + id 내림차순 정렬을 인덱스 범위 스캔으로 처리
+
+CREATE INDEX idx_article_user_id_id ON "article"(user_id, id);
@@ -0,0 +1,9 @@
+-- 게시글 id를 IDENTITY에서 pooled 시퀀스로 전환 (대량 등록 시 JDBC 배치 insert 사용)
+-- IDENTITY는 insert마다 생성된 키를 받아와야 해서 Hibernate가 배치를 끄므로,
+-- 시퀀스에서 50개 단위로 id 구간을 미리 할당받는다 (엔티티의 allocationSize와 INCREMENT BY가 같아야 함)
+
+CREATE SEQUENCE article_seq START WITH 1 INCREMENT BY 50;
+
+-- 기존 게시글 id와 겹치지 않도록 시작 위치를 맞춘다
+-- pooled 옵티마이저는 시퀀스 값 v를 받으면 (v - 49 ~ v) 구간을 사용하므로 MAX(id) + 50부터 시작
+ALTER SEQUENCE article_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM "article");
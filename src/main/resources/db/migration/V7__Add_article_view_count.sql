@@ -0,0 +1,4 @@
+-- 게시글 조회수 컬럼 추가
+-- 조회 시마다 UPDATE 하지 않고 메모리에 모은 증가분을 주기적으로 한 번에 더한다 (write-behind)
+
+ALTER TABLE "article" ADD COLUMN view_count BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,4 @@
+-- 게시글별 댓글 목록(키셋 페이지네이션) 최적화
+-- (article_id, id) 복합 인덱스로 게시글 조건 + id 오름차순 정렬을 인덱스 범위 스캔으로 처리
+
+CREATE INDEX idx_comment_article_id_id ON comment(article_id, id);
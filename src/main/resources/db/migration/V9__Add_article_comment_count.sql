@@ -0,0 +1,7 @@
+-- 게시글 테이블에 댓글 개수 컬럼 추가 (like_count와 같은 방식의 비정규화 카운터)
+-- 목록 조회 시 게시글마다 댓글을 세지 않도록 댓글 작성/삭제 시 원자적 UPDATE로 유지한다
+
+ALTER TABLE "article" ADD COLUMN comment_count BIGINT DEFAULT 0 NOT NULL;
+
+-- 기존 댓글 수로 채우기
+UPDATE "article" SET comment_count = (SELECT COUNT(*) FROM comment c WHERE c.article_id = "article".id);
@@ -0,0 +1,64 @@
+package com.blog.application.common.bitmap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikerBitmapIndexTest {
+
+    private LikerBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new LikerBitmapIndex();
+        for (long articleId = 1; articleId <= 4; articleId++) {
+            index.addArticle(articleId);
+        }
+        index.like(1L, 10L);
+        index.like(2L, 10L);
+        index.like(3L, 10L);
+        index.like(2L, 20L);
+        index.like(3L, 20L);
+        index.like(4L, 20L);
+    }
+
+    @Test
+    void 좋아요_여부와_개수를_조회한다() {
+        assertThat(index.isLiked(1L, 10L)).isTrue();
+        assertThat(index.isLiked(1L, 20L)).isFalse();
+        assertThat(index.isLiked(2L, 20L)).isTrue();
+        assertThat(index.hasArticle(4L)).isTrue();
+        assertThat(index.hasArticle(5L)).isFalse();
+        assertThat(index.likeTotal()).isEqualTo(6);
+    }
+
+    @Test
+    void 같은_좋아요를_두_번_더하거나_없는_좋아요를_빼도_개수가_변하지_않는다() {
+        index.like(1L, 10L);
+        index.unlike(1L, 20L);
+
+        assertThat(index.isLiked(1L, 10L)).isTrue();
+        assertThat(index.likeTotal()).isEqualTo(6);
+    }
+
+    @Test
+    void 두_사용자가_함께_좋아요한_게시글을_최신순으로_구한다() {
+        assertThat(index.likedByBoth(10L, 20L, 10)).containsExactly(3L, 2L);
+        assertThat(index.likedByBoth(10L, 20L, 1)).containsExactly(3L);
+        assertThat(index.likedByBoth(10L, 30L, 10)).isEmpty();
+    }
+
+    @Test
+    void 게시글과_사용자_삭제가_양쪽_비트맵에_반영된다() {
+        index.removeArticle(3L);
+        assertThat(index.hasArticle(3L)).isFalse();
+        assertThat(index.likedByBoth(10L, 20L, 10)).containsExactly(2L);
+
+        index.removeUser(20L);
+        assertThat(index.isLiked(2L, 10L)).isTrue();
+        assertThat(index.isLiked(2L, 20L)).isFalse();
+        assertThat(index.isLiked(4L, 20L)).isFalse();
+        assertThat(index.likeTotal()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,42 @@
+package com.blog.application.common.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-must-be-at-least-256-bits-long!!";
+
+    private JwtTokenProvider provider(long accessTokenValidityMs, long cacheMaxSize) {
+        return new JwtTokenProvider(SECRET, accessTokenValidityMs, 1_209_600_000L, cacheMaxSize, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 검증된_클레임을_반환하고_같은_토큰은_캐시에서_돌려준다() {
+        JwtTokenProvider provider = provider(3_600_000L, 100);
+        String token = provider.generateAccessToken("user@example.com");
+
+        Optional<Claims> first = provider.parseVerifiedClaims(token);
+        Optional<Claims> second = provider.parseVerifiedClaims(token);
+
+        assertThat(first).map(Claims::getSubject).contains("user@example.com");
+        assertThat(second.get()).isSameAs(first.get());
+    }
+
+    @Test
+    void 변조되거나_만료된_토큰은_거부한다() {
+        JwtTokenProvider provider = provider(3_600_000L, 100);
+        String token = provider.generateAccessToken("user@example.com");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        String expired = provider(-1_000L, 100).generateAccessToken("user@example.com");
+
+        assertThat(provider.parseVerifiedClaims(tampered)).isEmpty();
+        assertThat(provider.parseVerifiedClaims(expired)).isEmpty();
+        assertThat(provider.parseVerifiedClaims(null)).isEmpty();
+    }
+}
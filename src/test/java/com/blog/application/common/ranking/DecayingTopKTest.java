@@ -0,0 +1,64 @@
+package com.blog.application.common.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DecayingTopKTest {
+
+    private static final long HALF_LIFE = 1_000L;
+
+    @Test
+    void 오래된_점수는_반감기마다_절반으로_줄어_순서가_바뀐다() {
+        DecayingTopK topK = new DecayingTopK(10, HALF_LIFE, 0L);
+        topK.add(1L, 2.0, 0L);
+        topK.add(2L, 1.0, 2_000L);
+
+        // t=2000: 1번은 2.0 -> 0.5, 2번은 방금 받은 1.0
+        assertThat(topK.top(10, 2_000L)).extracting(DecayingTopK.Entry::id).containsExactly(2L, 1L);
+        assertThat(topK.top(10, 2_000L).get(1).score()).isCloseTo(0.5, within(1e-9));
+        assertThat(topK.top(10, 3_000L).get(0).score()).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    void 가득_차면_가장_낮은_항목보다_높은_점수만_들어온다() {
+        DecayingTopK topK = new DecayingTopK(2, HALF_LIFE, 0L);
+        topK.add(1L, 3.0, 0L);
+        topK.add(2L, 2.0, 0L);
+
+        topK.add(3L, 1.0, 0L);
+        assertThat(topK.top(10, 0L)).extracting(DecayingTopK.Entry::id).containsExactly(1L, 2L);
+
+        topK.add(4L, 5.0, 0L);
+        assertThat(topK.size()).isEqualTo(2);
+        assertThat(topK.top(10, 0L)).extracting(DecayingTopK.Entry::id).containsExactly(4L, 1L);
+    }
+
+    @Test
+    void 점수가_0_이하로_떨어지면_제거한다() {
+        DecayingTopK topK = new DecayingTopK(10, HALF_LIFE, 0L);
+        topK.add(1L, 1.0, 0L);
+        topK.add(1L, -1.0, 0L);
+        // 추적하지 않는 항목의 감소는 무시
+        topK.add(2L, -1.0, 0L);
+
+        assertThat(topK.size()).isZero();
+    }
+
+    @Test
+    void rebase_후에도_감쇠_점수와_순서가_유지되고_너무_작아진_항목은_버린다() {
+        DecayingTopK topK = new DecayingTopK(10, HALF_LIFE, 0L);
+        topK.add(1L, Math.pow(2, 20), 0L);
+        topK.add(2L, 1.0, 0L);
+
+        // 지수가 33이 되어 rebase: 1번은 2^20 / 2^33 = 2^-13, 2번은 2^-33(최소 점수 미만)이라 제거
+        topK.add(3L, 1.0, 33_000L);
+
+        assertThat(topK.size()).isEqualTo(2);
+        assertThat(topK.top(10, 33_000L)).extracting(DecayingTopK.Entry::id).containsExactly(3L, 1L);
+        assertThat(topK.top(10, 33_000L).get(1).score()).isCloseTo(Math.pow(2, -13), within(1e-12));
+        // rebase 이후의 감쇠도 같은 반감기로 이어진다
+        assertThat(topK.top(10, 34_000L).get(0).score()).isCloseTo(0.5, within(1e-9));
+    }
+}
@@ -0,0 +1,104 @@
+package com.blog.application.common.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.index(1L, 0L, "스프링 부트 입문", "스프링 부트로 블로그 만들기");
+        index.index(2L, 0L, "JPA 성능 튜닝", "fetch join으로 N+1 문제를 해결한다. 스프링 데이터 JPA");
+        index.index(3L, 0L, "Redis 캐시", "캐시 무효화 전략");
+    }
+
+    @Test
+    void 제목에_나온_단어가_더_높은_점수를_받는다() {
+        InvertedIndex.SearchResult result = index.search("스프링", 0, 10);
+
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.hits()).extracting(InvertedIndex.Hit::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 대소문자와_구두점을_무시하고_검색한다() {
+        assertThat(index.search("jpa!", 0, 10).hits())
+                .extracting(InvertedIndex.Hit::id)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void 페이지_범위로_결과를_자른다() {
+        InvertedIndex.SearchResult secondPage = index.search("스프링", 1, 1);
+
+        assertThat(secondPage.totalHits()).isEqualTo(2);
+        assertThat(secondPage.hits()).extracting(InvertedIndex.Hit::id).containsExactly(2L);
+        assertThat(index.search("스프링", 5, 10).hits()).isEmpty();
+        // int 범위를 넘는 offset도 빈 페이지로 처리한다
+        assertThat(index.search("스프링", 21474837L * 100, 100).hits()).isEmpty();
+    }
+
+    @Test
+    void 수정과_삭제가_색인에_바로_반영된다() {
+        index.index(3L, 0L, "Redis 캐시", "스프링 캐시 추상화");
+        assertThat(index.search("추상화", 0, 10).hits()).extracting(InvertedIndex.Hit::id).containsExactly(3L);
+        assertThat(index.search("무효화", 0, 10).hits()).isEmpty();
+
+        index.remove(1L);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("입문", 0, 10).hits()).isEmpty();
+    }
+
+    @Test
+    void 스냅샷으로_저장하고_복원하면_같은_결과를_낸다() throws IOException {
+        // writeUTF 한도(65535바이트)를 넘는 긴 단어도 저장할 수 있어야 한다
+        String longToken = "a".repeat(70_000);
+        index.index(4L, 0L, "긴 단어", longToken);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            index.writeSnapshot(out);
+        }
+
+        InvertedIndex restored = new InvertedIndex();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored.readSnapshot(in);
+        }
+
+        assertThat(restored.documentIds()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(restored.documentVersions()).isEqualTo(index.documentVersions());
+        assertThat(restored.search(longToken, 0, 10).hits()).extracting(InvertedIndex.Hit::id).containsExactly(4L);
+        assertThat(restored.search("스프링 부트", 0, 10).hits())
+                .isEqualTo(index.search("스프링 부트", 0, 10).hits());
+    }
+
+    @Test
+    void 많이_삭제한_뒤_슬롯을_다시_매겨도_검색_결과가_유지된다() {
+        InvertedIndex large = new InvertedIndex();
+        for (long id = 1; id <= 3000; id++) {
+            large.index(id, 0L, "제목 " + id, id % 2 == 0 ? "짝수 문서" : "홀수 문서");
+        }
+        // 빈 슬롯이 살아 있는 문서보다 많아지도록 지워서 compact를 일으킨다
+        for (long id = 1; id <= 2500; id++) {
+            large.remove(id);
+        }
+        large.index(2999L, 0L, "수정된 제목", "짝수 문서");
+
+        assertThat(large.size()).isEqualTo(500);
+        InvertedIndex.SearchResult result = large.search("짝수", 0, 3);
+        assertThat(result.totalHits()).isEqualTo(251);
+        assertThat(result.hits()).extracting(InvertedIndex.Hit::id).containsExactly(3000L, 2999L, 2998L);
+        assertThat(large.search("홀수", 0, 300).hits()).hasSize(249);
+    }
+}
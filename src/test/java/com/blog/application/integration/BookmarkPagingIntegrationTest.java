@@ -0,0 +1,121 @@
+package com.blog.application.integration;
+
+import com.blog.application.entity.Article;
+import com.blog.application.entity.ArticleBookmark;
+import com.blog.application.entity.User;
+import com.blog.application.repository.jpa.ArticleBookmarkRepository;
+import com.blog.application.repository.jpa.ArticleRepository;
+import com.blog.application.repository.jpa.UserRepository;
+import com.blog.application.response.BookmarkedArticleDTO;
+import com.blog.application.response.CursorPageDTO;
+import com.blog.application.service.ArticleBookmarkService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class BookmarkPagingIntegrationTest {
+
+    private static final String EMAIL = "reader@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ArticleBookmarkService articleBookmarkService;
+
+    @Autowired
+    private ArticleBookmarkRepository articleBookmarkRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User reader;
+    private final List<Article> articles = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        reader = new User();
+        reader.setEmail(EMAIL);
+        reader.setNickname("reader");
+        reader.setPassword("password");
+        reader = userRepository.save(reader);
+        for (int i = 0; i < 3; i++) {
+            articles.add(articleRepository.save(new Article("Title " + i, "Content", reader)));
+        }
+        articleRepository.flush();
+    }
+
+    @Test
+    void 북마크_시각이_같아도_id로_이어서_빠짐없이_페이지를_넘긴다() {
+        // 세 북마크 모두 같은 시각
+        LocalDateTime sameTime = LocalDateTime.of(2024, 1, 1, 12, 0);
+        for (Article article : articles) {
+            ArticleBookmark bookmark = new ArticleBookmark(reader, article);
+            bookmark.setCreatedAt(sameTime);
+            articleBookmarkRepository.save(bookmark);
+        }
+        articleBookmarkRepository.flush();
+
+        CursorPageDTO<BookmarkedArticleDTO> first = articleBookmarkService.getBookmarks(EMAIL, null, 2);
+        CursorPageDTO<BookmarkedArticleDTO> second = articleBookmarkService.getBookmarks(EMAIL, first.getNextCursor(), 2);
+
+        assertThat(first.getItems()).hasSize(2);
+        assertThat(first.getNextCursor()).isNotNull();
+        assertThat(second.getItems()).hasSize(1);
+        assertThat(second.getNextCursor()).isNull();
+
+        List<Long> bookmarkIds = new ArrayList<>();
+        first.getItems().forEach(item -> bookmarkIds.add(item.getBookmarkId()));
+        second.getItems().forEach(item -> bookmarkIds.add(item.getBookmarkId()));
+        // 같은 시각이면 id 내림차순, 중복/누락 없음
+        assertThat(bookmarkIds).doesNotHaveDuplicates().isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(bookmarkIds).hasSize(3);
+    }
+
+    @Test
+    void 잘못된_커서는_400으로_응답한다() throws Exception {
+        mockMvc.perform(get("/users/me/bookmarks").param("cursor", "not-a-cursor").with(user(EMAIL)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void 탈퇴할_사용자의_북마크만큼_bookmark_count를_차감한다() {
+        User other = new User();
+        other.setEmail("other@example.com");
+        other.setNickname("other");
+        other.setPassword("password");
+        userRepository.saveAndFlush(other);
+
+        articleBookmarkService.toggleBookmark(articles.get(0).getId(), EMAIL);
+        articleBookmarkService.toggleBookmark(articles.get(0).getId(), other.getEmail());
+        articleBookmarkService.toggleBookmark(articles.get(1).getId(), EMAIL);
+
+        int updated = articleRepository.subtractBookmarkCountsOfUser(reader.getId());
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(articleRepository.findBookmarkCountById(articles.get(0).getId())).contains(1L);
+        assertThat(articleRepository.findBookmarkCountById(articles.get(1).getId())).contains(0L);
+        assertThat(articleRepository.findBookmarkCountById(articles.get(2).getId())).contains(0L);
+    }
+}
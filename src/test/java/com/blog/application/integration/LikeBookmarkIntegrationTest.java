@@ -3,9 +3,11 @@ package com.blog.application.integration;
 import com.blog.application.entity.Article;
 import com.blog.application.entity.User;
 import com.blog.application.repository.jpa.ArticleRepository;
+import com.blog.application.repository.jdbc.ReactionWriteRepository;
 import com.blog.application.repository.jpa.UserRepository;
 import com.blog.application.service.ArticleLikeService;
 import com.blog.application.service.ArticleBookmarkService;
+import com.blog.application.service.UserIdCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +34,12 @@ class LikeBookmarkIntegrationTest {
     @Autowired
     private ArticleRepository articleRepository;
 
+    @Autowired
+    private ReactionWriteRepository reactionWriteRepository;
+
+    @Autowired
+    private UserIdCache userIdCache;
+
     private User testUser;
     private Article testArticle;
 
@@ -89,4 +97,54 @@ class LikeBookmarkIntegrationTest {
         assertThat(result2).isFalse(); // 북마크 취소됨
         assertThat(articleBookmarkService.isBookmarked(testArticle.getId(), testUser.getEmail())).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    void 북마크_추가_취소시_bookmark_count를_증감한다() {
+        articleBookmarkService.toggleBookmark(testArticle.getId(), testUser.getEmail());
+        assertThat(articleRepository.findBookmarkCountById(testArticle.getId())).contains(1L);
+        assertThat(articleBookmarkService.getBookmarkStatus(testArticle.getId(), testUser.getEmail()).count()).isEqualTo(1L);
+
+        articleBookmarkService.toggleBookmark(testArticle.getId(), testUser.getEmail());
+        assertThat(articleRepository.findBookmarkCountById(testArticle.getId())).contains(0L);
+    }
+
+    @Test
+    void 이미_있는_행은_다시_추가하지_않는다() {
+        userRepository.flush();
+        articleRepository.flush();
+
+        assertThat(reactionWriteRepository.insertIfAbsent(
+                ReactionWriteRepository.ReactionTable.LIKE, testUser.getId(), testArticle.getId())).isTrue();
+        assertThat(reactionWriteRepository.insertIfAbsent(
+                ReactionWriteRepository.ReactionTable.LIKE, testUser.getId(), testArticle.getId())).isFalse();
+        // 없는 게시글에는 FK 예외 없이 0건
+        assertThat(reactionWriteRepository.insertIfAbsent(
+                ReactionWriteRepository.ReactionTable.LIKE, testUser.getId(), Long.MAX_VALUE)).isFalse();
+    }
+
+    @Test
+    void 캐시된_사용자_id가_없어졌으면_다시_조회해_토글한다() {
+        User leaving = saveUser("rejoin@example.com", "leaving");
+        userRepository.flush();
+        // 탈퇴 전 id가 캐시에 남은 상태에서 같은 이메일로 재가입
+        userIdCache.getId(leaving.getEmail());
+        userRepository.delete(leaving);
+        userRepository.flush();
+        User rejoined = saveUser("rejoin@example.com", "rejoined");
+        userRepository.flush();
+
+        boolean liked = articleLikeService.toggleLike(testArticle.getId(), rejoined.getEmail());
+
+        assertThat(liked).isTrue();
+        assertThat(userIdCache.getId(rejoined.getEmail())).contains(rejoined.getId());
+        assertThat(articleLikeService.getLikeCount(testArticle.getId())).isEqualTo(1L);
+    }
+
+    private User saveUser(String email, String nickname) {
+        User user = new User();
+        user.setEmail(email);
+        user.setNickname(nickname);
+        user.setPassword("password");
+        return userRepository.save(user);
+    }
+}
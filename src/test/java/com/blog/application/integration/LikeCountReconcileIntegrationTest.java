@@ -0,0 +1,118 @@
+package com.blog.application.integration;
+
+import com.blog.application.entity.Article;
+import com.blog.application.entity.User;
+import com.blog.application.repository.jpa.ArticleRepository;
+import com.blog.application.repository.jpa.UserRepository;
+import com.blog.application.service.ArticleLikeService;
+import com.blog.application.service.LikeCountReconciler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+// 주기 작업은 켜 두되 스케줄러가 먼저 돌지 않도록 첫 실행을 미룬다 (테스트에서 직접 호출)
+@TestPropertySource(properties = {
+        "article.likes.reconcile.enabled=true",
+        "article.likes.reconcile.initial-delay-ms=3600000"
+})
+class LikeCountReconcileIntegrationTest {
+
+    // application-test.yml의 admin.emails
+    private static final String ADMIN_EMAIL = "admin@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ArticleLikeService articleLikeService;
+
+    @Autowired
+    private LikeCountReconciler likeCountReconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Article article;
+
+    @BeforeEach
+    void setUp() {
+        User author = new User();
+        author.setEmail("author@example.com");
+        author.setNickname("author");
+        author.setPassword("password");
+        author = userRepository.save(author);
+
+        article = articleRepository.saveAndFlush(new Article("Title", "Content", author));
+    }
+
+    @Test
+    void 관리자_허용_목록에_없는_사용자는_보정_API를_호출할_수_없다() throws Exception {
+        mockMvc.perform(post("/admin/articles/{id}/like-count/reconcile", article.getId())
+                        .with(user("author@example.com")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void 관리자는_보정_API를_호출할_수_있다() throws Exception {
+        mockMvc.perform(post("/admin/articles/{id}/like-count/reconcile", article.getId())
+                        .with(user(ADMIN_EMAIL)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/admin/articles/{id}/like-count/reconcile", Long.MAX_VALUE)
+                        .with(user(ADMIN_EMAIL)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void 어긋난_좋아요_수를_실제_좋아요_행_수로_보정한다() {
+        articleLikeService.toggleLike(article.getId(), "author@example.com");
+        setLikeCount(article.getId(), 5);
+
+        LikeCountReconciler.Result result = likeCountReconciler.reconcileArticle(article.getId()).orElseThrow();
+
+        assertThat(result.storedCount()).isEqualTo(5);
+        assertThat(result.actualCount()).isEqualTo(1);
+        assertThat(result.fixed()).isTrue();
+        assertThat(articleRepository.findLikeCountById(article.getId())).contains(1L);
+
+        // 이미 맞는 값은 다시 쓰지 않는다
+        assertThat(likeCountReconciler.reconcileArticle(article.getId()).orElseThrow().fixed()).isFalse();
+    }
+
+    @Test
+    void 주기_작업은_청크_안의_어긋난_게시글을_보정한다() {
+        Article other = articleRepository.saveAndFlush(new Article("Other", "Content", article.getUser()));
+        setLikeCount(article.getId(), 3);
+        setLikeCount(other.getId(), 7);
+
+        likeCountReconciler.reconcileNextChunk();
+
+        assertThat(articleRepository.findLikeCountById(article.getId())).contains(0L);
+        assertThat(articleRepository.findLikeCountById(other.getId())).contains(0L);
+    }
+
+    private void setLikeCount(Long articleId, long likeCount) {
+        jdbcTemplate.update("UPDATE \"article\" SET like_count = ? WHERE id = ?", likeCount, articleId);
+    }
+}
@@ -0,0 +1,101 @@
+package com.blog.application.service;
+
+import com.blog.application.response.ArticleDTO;
+import com.blog.application.response.ArticleDetailDTO;
+import com.blog.application.response.CursorPageDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ArticleDetailServiceTest {
+
+    private static final Long ARTICLE_ID = 1L;
+    private static final String EMAIL = "user@example.com";
+    private static final Duration PART_TIMEOUT = Duration.ofMillis(200);
+
+    private ArticleService articleService;
+    private CommentService commentService;
+    private ViewCountService viewCountService;
+    private ArticleLikeService articleLikeService;
+    private ArticleBookmarkService articleBookmarkService;
+    private ArticleDetailService articleDetailService;
+
+    @BeforeEach
+    void setUp() {
+        articleService = mock(ArticleService.class);
+        commentService = mock(CommentService.class);
+        viewCountService = mock(ViewCountService.class);
+        articleLikeService = mock(ArticleLikeService.class);
+        articleBookmarkService = mock(ArticleBookmarkService.class);
+        articleDetailService = new ArticleDetailService(articleService, commentService, viewCountService,
+                articleLikeService, articleBookmarkService, PART_TIMEOUT, 8);
+
+        when(commentService.getCommentsAfter(ARTICLE_ID, null, null)).thenReturn(new CursorPageDTO<>(List.of(), null));
+        when(viewCountService.getViewCount(ARTICLE_ID)).thenReturn(10L);
+        when(articleLikeService.getLikeStatus(ARTICLE_ID, EMAIL)).thenReturn(new ReactionSetCache.ReactionStatus(true, 3));
+        when(articleBookmarkService.getBookmarkStatus(ARTICLE_ID, EMAIL)).thenReturn(new ReactionSetCache.ReactionStatus(false, 1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        articleDetailService.shutdown();
+    }
+
+    @Test
+    void 게시글이_없으면_empty를_반환하고_조회수를_올리지_않는다() {
+        when(articleService.getArticleDTO(ARTICLE_ID)).thenReturn(Optional.empty());
+
+        assertThat(articleDetailService.getDetail(ARTICLE_ID, EMAIL)).isEmpty();
+        verify(viewCountService, never()).increment(any());
+    }
+
+    @Test
+    void 실패하거나_늦은_선택_항목은_비워_두고_failedParts에_남긴다() {
+        when(articleService.getArticleDTO(ARTICLE_ID)).thenReturn(Optional.of(article()));
+        when(commentService.getCommentsAfter(ARTICLE_ID, null, null)).thenThrow(new IllegalStateException("boom"));
+        when(viewCountService.getViewCount(ARTICLE_ID)).thenAnswer(invocation -> {
+            Thread.sleep(PART_TIMEOUT.toMillis() * 5);
+            return 10L;
+        });
+
+        ArticleDetailDTO detail = articleDetailService.getDetail(ARTICLE_ID, EMAIL).orElseThrow();
+
+        assertThat(detail.getFailedParts()).containsExactly("comments", "viewCount");
+        assertThat(detail.getComments()).isNull();
+        assertThat(detail.getViewCount()).isNull();
+        assertThat(detail.getLikeCount()).isEqualTo(3L);
+        assertThat(detail.getLiked()).isTrue();
+        assertThat(detail.getBookmarkCount()).isEqualTo(1L);
+        assertThat(detail.getBookmarked()).isFalse();
+        verify(viewCountService).increment(ARTICLE_ID);
+    }
+
+    @Test
+    void 게시글_조회는_선택_항목_마감_시간을_넘겨도_기다린다() {
+        when(articleService.getArticleDTO(ARTICLE_ID)).thenAnswer(invocation -> {
+            Thread.sleep(PART_TIMEOUT.toMillis() * 2);
+            return Optional.of(article());
+        });
+
+        ArticleDetailDTO detail = articleDetailService.getDetail(ARTICLE_ID, null).orElseThrow();
+
+        assertThat(detail.getArticle().getArticleId()).isEqualTo(ARTICLE_ID);
+        assertThat(detail.getLiked()).isNull();
+        assertThat(detail.getBookmarked()).isNull();
+    }
+
+    private static ArticleDTO article() {
+        return new ArticleDTO(ARTICLE_ID, "author@example.com", "Title", "Content", 0L, 0L);
+    }
+}
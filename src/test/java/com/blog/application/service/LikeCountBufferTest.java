@@ -0,0 +1,127 @@
+package com.blog.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LikeCountBufferTest {
+
+    private static final int THREADS = 8;
+    private static final int ADDS_PER_THREAD = 20_000;
+    private static final long ARTICLES = 5;
+
+    private JdbcTemplate jdbcTemplate;
+    // 모의 DB에 반영된 게시글별 좋아요 수
+    private final Map<Long, Long> persisted = new ConcurrentHashMap<>();
+    private final AtomicInteger batchCalls = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        // 세 번에 한 번은 배치 반영을 실패시켜 되돌리기(restore) 경로도 함께 검증
+        when(jdbcTemplate.batchUpdate(eq(LikeCountBuffer.FLUSH_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    if (batchCalls.incrementAndGet() % 3 == 0) {
+                        throw new DataAccessResourceFailureException("simulated failure");
+                    }
+                    Collection<Object[]> args = invocation.getArgument(1);
+                    for (Object[] arg : args) {
+                        persisted.merge((Long) arg[1], (Long) arg[0], Long::sum);
+                    }
+                    return new int[0][0];
+                });
+        when(jdbcTemplate.update(eq(LikeCountBuffer.FLUSH_SQL), anyLong(), anyLong()))
+                .thenAnswer(invocation -> {
+                    persisted.merge(invocation.getArgument(2), invocation.getArgument(1), Long::sum);
+                    return 1;
+                });
+    }
+
+    @Test
+    void 동시에_더하고_반영해도_증감분이_유실되지_않는다() throws InterruptedException {
+        LikeCountBuffer buffer = new LikeCountBuffer(jdbcTemplate, TransactionOperations.withoutTransaction(), true);
+        ExecutorService writers = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        Thread flusher = new Thread(() -> {
+            while (writing.get()) {
+                buffer.flush();
+            }
+        });
+        flusher.start();
+
+        for (int t = 0; t < THREADS; t++) {
+            writers.submit(() -> {
+                start.await();
+                for (int i = 0; i < ADDS_PER_THREAD; i++) {
+                    // 좋아요와 취소가 섞여 들어오는 상황 (짝수 번째는 +2, 홀수 번째는 -1)
+                    buffer.add(i % ARTICLES, i % 2 == 0 ? 2 : -1);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        writers.shutdown();
+        assertThat(writers.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        writing.set(false);
+        flusher.join();
+
+        buffer.close();
+
+        long expectedPerArticle = (long) THREADS * ADDS_PER_THREAD / ARTICLES / 2;
+        for (long articleId = 0; articleId < ARTICLES; articleId++) {
+            assertThat(persisted.get(articleId)).isEqualTo(expectedPerArticle);
+            assertThat(buffer.pending(articleId)).isZero();
+        }
+    }
+
+    @Test
+    void 종료_중에_들어온_증감분도_반영된다() throws InterruptedException {
+        LikeCountBuffer buffer = new LikeCountBuffer(jdbcTemplate, TransactionOperations.withoutTransaction(), true);
+        ExecutorService writers = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < THREADS; t++) {
+            writers.submit(() -> {
+                start.await();
+                for (int i = 0; i < ADDS_PER_THREAD; i++) {
+                    buffer.add(1L, 1);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        // 쓰는 도중에 종료: 닫힌 뒤 들어온 증감분은 바로 DB에 반영돼야 한다
+        buffer.close();
+        writers.shutdown();
+        assertThat(writers.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        buffer.flush();
+
+        assertThat(persisted.get(1L)).isEqualTo((long) THREADS * ADDS_PER_THREAD);
+    }
+}
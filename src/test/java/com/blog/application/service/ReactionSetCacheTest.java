@@ -0,0 +1,130 @@
+package com.blog.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactionSetCacheTest {
+
+    private static final Long ARTICLE_ID = 7L;
+    private static final String KEY = "article:7:likers";
+    private static final String GENERATION_KEY = "article:7:likers:gen";
+    private static final String EMAIL = "user@example.com";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private StringRedisTemplate template;
+    private ValueOperations<String, String> valueOperations;
+    private ReactionSetCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        template = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(template.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(GENERATION_KEY)).thenReturn("3");
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(template);
+        cache = new ReactionSetCache(provider, true, TTL);
+    }
+
+    @Test
+    void 채워진_집합이면_DB를_읽지_않고_포함_여부를_반환한다() {
+        stubMembership(1L);
+        AtomicInteger loads = new AtomicInteger();
+
+        Optional<Boolean> member = cache.isMember(ReactionSetCache.Reaction.LIKE, ARTICLE_ID, EMAIL, () -> {
+            loads.incrementAndGet();
+            return Optional.of(List.of());
+        });
+
+        assertThat(member).contains(true);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void 채워지지_않은_집합은_DB에서_채운_뒤_표시_멤버를_마지막에_넣는다() {
+        stubMembership(-1L, 0L);
+        stubBackfill(1L);
+
+        Optional<Boolean> member = cache.isMember(ReactionSetCache.Reaction.LIKE, ARTICLE_ID, EMAIL,
+                () -> Optional.of(List.of("a@example.com", "b@example.com")));
+
+        assertThat(member).contains(false);
+        var order = inOrder(template);
+        order.verify(template).execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)),
+                eq("3"), eq("3600"), eq("a@example.com"), eq("b@example.com"));
+        order.verify(template).execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)),
+                eq("3"), eq("3600"), eq(ReactionSetCache.LOADED_MARKER));
+    }
+
+    @Test
+    void 채우는_사이_토글이_반영되면_표시_멤버를_넣지_않고_DB로_넘긴다() {
+        stubMembership(-1L);
+        stubBackfill(0L);
+
+        Optional<Boolean> member = cache.isMember(ReactionSetCache.Reaction.LIKE, ARTICLE_ID, EMAIL,
+                () -> Optional.of(List.of(EMAIL)));
+
+        assertThat(member).isEmpty();
+        verify(template, never()).execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)),
+                eq("3"), eq("3600"), eq(ReactionSetCache.LOADED_MARKER));
+    }
+
+    @Test
+    void 게시글이_없으면_채우지_않고_empty를_반환한다() {
+        stubMembership(-1L);
+
+        assertThat(cache.isMember(ReactionSetCache.Reaction.LIKE, ARTICLE_ID, EMAIL, Optional::empty)).isEmpty();
+        verify(template, never()).execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)),
+                eq("3"), eq("3600"), eq(ReactionSetCache.LOADED_MARKER));
+    }
+
+    @Test
+    void Redis를_사용할_수_없으면_empty를_반환해_DB로_넘긴다() {
+        when(template.execute(any(RedisScript.class), eq(List.of(KEY)), eq(EMAIL), eq(ReactionSetCache.LOADED_MARKER)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(cache.isMember(ReactionSetCache.Reaction.LIKE, ARTICLE_ID, EMAIL, Optional::empty)).isEmpty();
+    }
+
+    @Test
+    void 캐시를_끄면_Redis를_호출하지_않는다() {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        ReactionSetCache disabled = new ReactionSetCache(provider, false, TTL);
+
+        assertThat(disabled.isMember(ReactionSetCache.Reaction.LIKE, ARTICLE_ID, EMAIL, Optional::empty)).isEmpty();
+        verify(provider, never()).getIfAvailable();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubMembership(Long first, Long... rest) {
+        when(template.execute(any(RedisScript.class), eq(List.of(KEY)), eq(EMAIL), eq(ReactionSetCache.LOADED_MARKER)))
+                .thenReturn(first, (Object[]) rest);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubBackfill(Long result) {
+        when(template.execute(any(RedisScript.class), eq(List.of(KEY, GENERATION_KEY)), any(Object[].class)))
+                .thenReturn(result);
+    }
+}